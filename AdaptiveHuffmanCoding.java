@@ -0,0 +1,362 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Adaptive Huffman coding (FGK): encoder and decoder start from the same empty tree and
+ * update it after every byte, so data is compressed in a single pass without knowing the
+ * frequencies up front, and an unbounded stream needs only constant memory.
+ *
+ * The tree lives in fixed arrays indexed by node number, one slot per field of
+ * HuffmanCoding.Node (symbol, frequency, left, right), so updates allocate nothing.
+ * Numbers follow the sibling property: frequencies never decrease as the number grows,
+ * and the root has the highest number. A byte seen for the first time is sent as the
+ * code of the NYT ("not yet transmitted") leaf followed by its 9-bit value; value 256
+ * marks the end of the stream. Bits go through HuffmanCodec's BitWriter and BitReader.
+ *
+ * Encoder.flush() sends NYT plus value 257 and pads with zeros to a byte boundary, so a
+ * peer on a live stream can decode everything written so far; the decoder skips the
+ * padding and the model is left unchanged. Input that ends before END is reported with
+ * an EOFException.
+ */
+public class AdaptiveHuffmanCoding {
+
+    static final int ALPHABET = 256;
+    static final int END = ALPHABET;      // Symbol that ends the stream
+    static final int FLUSH = ALPHABET + 1; // Escape after which the encoder padded to a byte
+    static final int SYMBOL_BITS = 9;     // Raw width of a new symbol, END included
+
+    // Leaves for every symbol, END and NYT, plus the internal nodes joining them
+    static final int MAX_NODES = 2 * (ALPHABET + 2) - 1;
+
+    static final int INTERNAL = -1;       // symbol of an internal node
+    static final int NYT = -2;            // symbol of the NYT leaf
+
+    // Completed bytes the encoder buffers before writing them out
+    static final int FLUSH_BYTES = 1 << 16;
+
+    // The shared model: a Huffman tree kept in arrays and updated by the FGK rule
+    static class Tree {
+        final long[] frequency = new long[MAX_NODES];
+        final int[] symbol = new int[MAX_NODES];
+        final int[] left = new int[MAX_NODES];     // -1 for leaves
+        final int[] right = new int[MAX_NODES];    // -1 for leaves
+        final int[] parent = new int[MAX_NODES];   // -1 for the root
+        final int[] leaf = new int[ALPHABET + 1];  // Node of each symbol seen so far, or -1
+        final int root = MAX_NODES - 1;
+        int nyt;
+
+        Tree() {
+            Arrays.fill(leaf, -1);
+            nyt = root;
+            symbol[root] = NYT;
+            left[root] = -1;
+            right[root] = -1;
+            parent[root] = -1;
+        }
+
+        boolean isLeaf(int node) {
+            return left[node] == -1;
+        }
+
+        // Counts one more occurrence of s, adding a leaf for it first if it is new
+        void update(int s) {
+            int node = leaf[s];
+            if (node == -1) {
+                // The NYT leaf becomes an internal node over a new NYT and the new leaf
+                int old = nyt;
+                int newNyt = old - 2;
+                int newLeaf = old - 1;
+                symbol[old] = INTERNAL;
+                left[old] = newNyt;
+                right[old] = newLeaf;
+
+                symbol[newNyt] = NYT;
+                frequency[newNyt] = 0;
+                left[newNyt] = right[newNyt] = -1;
+                parent[newNyt] = old;
+
+                symbol[newLeaf] = s;
+                frequency[newLeaf] = 0;
+                left[newLeaf] = right[newLeaf] = -1;
+                parent[newLeaf] = old;
+
+                nyt = newNyt;
+                leaf[s] = newLeaf;
+                node = newLeaf;
+            }
+
+            while (node != -1) {
+                // Move the node to the top of its block of equal frequencies before
+                // incrementing it, which keeps the numbering ordered by frequency
+                int leader = blockLeader(node);
+                if (leader == parent[node]) {
+                    leader--; // Never swap a node with its own parent
+                }
+                if (leader != node) {
+                    swap(node, leader);
+                    node = leader;
+                }
+                frequency[node]++;
+                node = parent[node];
+            }
+        }
+
+        // Highest-numbered node with the same frequency; frequencies never decrease with
+        // the number, so it is found by binary search
+        private int blockLeader(int node) {
+            long f = frequency[node];
+            int lo = node, hi = root;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (frequency[mid] == f) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        // Exchanges the subtrees at nodes a and b; each node number keeps its parent
+        private void swap(int a, int b) {
+            int t = symbol[a]; symbol[a] = symbol[b]; symbol[b] = t;
+            t = left[a]; left[a] = left[b]; left[b] = t;
+            t = right[a]; right[a] = right[b]; right[b] = t;
+            long f = frequency[a]; frequency[a] = frequency[b]; frequency[b] = f;
+            relink(a);
+            relink(b);
+        }
+
+        // Points the children, leaf table or NYT back at node after a swap
+        private void relink(int node) {
+            if (!isLeaf(node)) {
+                parent[left[node]] = node;
+                parent[right[node]] = node;
+            } else if (symbol[node] == NYT) {
+                nyt = node;
+            } else {
+                leaf[symbol[node]] = node;
+            }
+        }
+
+        // Writes the path from the root to node, first edge first (left 0, right 1)
+        void writeCode(int node, HuffmanCodec.BitWriter writer, int[] path) {
+            int depth = 0;
+            for (int x = node; parent[x] != -1; x = parent[x]) {
+                path[depth++] = right[parent[x]] == x ? 1 : 0;
+            }
+            // path holds the edges leaf first; pack up to 32 of them per write
+            while (depth > 0) {
+                int n = Math.min(32, depth);
+                int bits = 0;
+                for (int k = 0; k < n; k++) {
+                    bits |= path[depth - 1 - k] << k;
+                }
+                writer.write(bits, n);
+                depth -= n;
+            }
+        }
+
+        void encode(int s, HuffmanCodec.BitWriter writer, int[] path) {
+            if (leaf[s] != -1) {
+                writeCode(leaf[s], writer, path);
+            } else {
+                writeCode(nyt, writer, path);
+                writer.write(s, SYMBOL_BITS);
+            }
+            update(s);
+        }
+
+        void flush(HuffmanCodec.BitWriter writer, int[] path) {
+            writeCode(nyt, writer, path);
+            writer.write(FLUSH, SYMBOL_BITS);
+            writer.finish();
+        }
+
+        // Reads bits only as the code needs them, so a symbol is returned as soon as its
+        // bits have arrived
+        int decode(HuffmanCodec.BitReader reader) throws IOException {
+            while (true) {
+                int node = root;
+                while (!isLeaf(node)) {
+                    reader.need(1);
+                    node = reader.readBit() == 0 ? left[node] : right[node];
+                }
+                int s = symbol[node];
+                if (s == NYT) {
+                    reader.need(SYMBOL_BITS);
+                    s = (int) reader.peek(SYMBOL_BITS);
+                    reader.skip(SYMBOL_BITS);
+                }
+                if (reader.overrun()) {
+                    throw new EOFException("Encoded stream ends before its end marker.");
+                }
+                if (s == FLUSH) {
+                    reader.alignToByte();
+                    continue;
+                }
+                if (s > END) {
+                    throw new IOException("Invalid symbol " + s + " in encoded data.");
+                }
+                update(s);
+                return s;
+            }
+        }
+
+        // Current tree as HuffmanCoding.Node objects, for inspection; NYT is a leaf with
+        // frequency 0 and symbol '\0', END a leaf with symbol '\0' as well
+        HuffmanCoding.Node toNode(int node) {
+            if (isLeaf(node)) {
+                int s = symbol[node];
+                return new HuffmanCoding.Node(s >= 0 && s < ALPHABET ? (char) s : '\0', (int) frequency[node]);
+            }
+            HuffmanCoding.Node n = new HuffmanCoding.Node((int) frequency[node]);
+            n.left = toNode(left[node]);
+            n.right = toNode(right[node]);
+            return n;
+        }
+    }
+
+    // Compresses everything written to it; close() ends the stream and closes out
+    public static class Encoder extends OutputStream {
+        private final OutputStream out;
+        private final Tree tree = new Tree();
+        private final HuffmanCodec.BitWriter writer = new HuffmanCodec.BitWriter();
+        private final int[] path = new int[MAX_NODES];
+        private boolean closed;
+
+        public Encoder(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (closed) {
+                throw new IOException("Encoder is closed.");
+            }
+            tree.encode(b & 0xFF, writer, path);
+            if (writer.size() >= FLUSH_BYTES) {
+                writer.drainTo(out);
+            }
+        }
+
+        // Pads the bits written so far to a byte boundary and writes them out, so the
+        // Decoder at the other end can return every byte written before the flush
+        @Override
+        public void flush() throws IOException {
+            if (closed) {
+                return;
+            }
+            tree.flush(writer, path);
+            writer.drainTo(out);
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            tree.encode(END, writer, path);
+            writer.finish();
+            writer.drainTo(out);
+            closed = true;
+            out.close();
+        }
+    }
+
+    // Decompresses a stream written by Encoder; reads ahead of the encoded data in blocks
+    public static class Decoder extends InputStream {
+        private final InputStream in;
+        private final Tree tree = new Tree();
+        private final HuffmanCodec.BitReader reader;
+        private boolean finished;
+
+        public Decoder(InputStream in) {
+            this.in = in;
+            this.reader = new HuffmanCodec.BitReader(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (finished) {
+                return -1;
+            }
+            int s = tree.decode(reader);
+            if (s == END) {
+                finished = true;
+                return -1;
+            }
+            return s;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    public static void encode(InputStream in, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder(out);
+        byte[] buffer = new byte[1 << 16];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            encoder.write(buffer, 0, read);
+        }
+        encoder.close();
+    }
+
+    public static void decode(InputStream in, OutputStream out) throws IOException {
+        Decoder decoder = new Decoder(in);
+        int b;
+        while ((b = decoder.read()) != -1) {
+            out.write(b);
+        }
+        out.flush();
+    }
+
+    public static byte[] encode(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            encode(new ByteArrayInputStream(input), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory streams do not fail
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] decode(byte[] input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        decode(new ByteArrayInputStream(input), out);
+        return out.toByteArray();
+    }
+
+    // Example Usage
+    public static void main(String[] args) {
+        try {
+            String text = "this is an example of adaptive huffman coding";
+            byte[] input = text.getBytes(StandardCharsets.UTF_8);
+
+            // Feed the text through a model to show the codes it has learned
+            Tree tree = new Tree();
+            for (byte b : input) {
+                tree.update(b & 0xFF);
+            }
+            Map<Character, String> codes = new TreeMap<>();
+            HuffmanCoding.generateHuffmanCodes(tree.toNode(tree.root), "", codes);
+            codes.remove('\0'); // NYT
+            System.out.println("Adaptive Huffman Codes after the whole text:");
+            for (Map.Entry<Character, String> entry : codes.entrySet()) {
+                System.out.println("Symbol: '" + entry.getKey() + "', Code: " + entry.getValue());
+            }
+
+            byte[] encoded = encode(input);
+            byte[] decoded = decode(encoded);
+            System.out.println("\nOriginal size: " + input.length + " bytes, encoded size: " + encoded.length + " bytes");
+            System.out.println("Round trip matches: " + Arrays.equals(input, decoded));
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,66 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class AllLCS {
+/**
+ * Finds all Longest Common Subsequences of two strings.
+ *
+ * Each instance owns its inputs and DP table, so separate instances can run
+ * concurrently. The table is taken from a shared pool and should be handed
+ * back with close() once the instance is no longer needed.
+ */
+public class AllLCS implements AutoCloseable {
 
-    private static char[] X;           // First input string as a character array
-    private static char[] Y;           // Second input string as a character array
-    private static int m, n;           // Lengths of the input strings
-    private static int[][] c;          // DP table for LCS lengths
-    private static int lcsLength;      // Length of the LCS
-    private static char[] LCS;         // Array to store current LCS being built
+    private final char[] X;            // First input string as a character array
+    private final char[] Y;            // Second input string as a character array
+    private final int m, n;            // Lengths of the input strings
+    private LengthTable c;             // DP table for LCS lengths
+    private int lcsLength;             // Length of the LCS
+    private char[] lcsBuffer;          // Array to store current LCS being built
+
+    // Free table buffers kept per element width for reuse between instances
+    private static final int POOL_CAPACITY = 8;
+    private static final BufferPool<byte[]> BYTE_BUFFERS = new BufferPool<>(byte[]::new, b -> b.length);
+    private static final BufferPool<short[]> SHORT_BUFFERS = new BufferPool<>(short[]::new, b -> b.length);
+    private static final BufferPool<int[]> INT_BUFFERS = new BufferPool<>(int[]::new, b -> b.length);
+
+    /**
+     * Builds the LCS length table for two strings.
+     *
+     * @param s1 First string
+     * @param s2 Second string
+     */
+    public AllLCS(String s1, String s2) {
+        this(s1, s2, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the LCS length table for two strings, filling large tables on
+     * the given pool.
+     *
+     * @param s1 First string
+     * @param s2 Second string
+     * @param pool Pool that runs the tiles of the table
+     */
+    public AllLCS(String s1, String s2, ForkJoinPool pool) {
+        X = s1.toCharArray();
+        Y = s2.toCharArray();
+        m = X.length;
+        n = Y.length;
+
+        // Compute the length of LCS
+        computeLCSLength(pool);
+    }
 
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
@@ -19,50 +72,531 @@ public class AllLCS {
         String s2 = scanner.nextLine();
         scanner.close();
 
-        // Initialize variables
-        X = s1.toCharArray();
-        Y = s2.toCharArray();
-        m = X.length;
-        n = Y.length;
+        try (AllLCS lcs = new AllLCS(s1, s2)) {
+            // Check if there is at least one common subsequence
+            if (lcs.length() == 0) {
+                System.out.println("No Common Subsequence found.");
+                return;
+            }
 
-        // Compute the length of LCS
-        computeLCSLength();
+            System.out.println("Length of LCS is " + lcs.length());
+            System.out.println("Number of distinct LCSs is " + countLCS(s1, s2));
+
+            System.out.println("All Longest Common Subsequences are:");
+            if (Arrays.asList(args).contains("--backtracking")) {
+                // Original backtracking search; prints a subsequence once per embedding
+                lcs.lcsBuffer = new char[lcs.length()];
+                // Start the recursive process with initial indices set to -1
+                lcs.printAllLCS(-1, -1, -1);
+            } else {
+                lcs.iterator().forEachRemaining(System.out::println);
+            }
+        }
+    }
+
+    /**
+     * @return Length of the LCS
+     */
+    public int length() {
+        return lcsLength;
+    }
+
+    /**
+     * @return Iterator over the distinct LCSs; valid until close()
+     */
+    public Iterator<String> iterator() {
+        return new LCSIterator(X, Y, c);
+    }
+
+    /**
+     * Lazily enumerates the distinct LCSs. Callers that only need some of
+     * them, e.g. stream().limit(k), pay for the first k only.
+     *
+     * @return Stream of distinct LCSs; valid until close()
+     */
+    public Stream<String> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the DP table to the pool. Iterators and streams of this
+     * instance must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (c != null) {
+            c.release();
+            c = null;
+        }
+    }
+
+    /**
+     * Lazily enumerates the distinct Longest Common Subsequences of two strings.
+     * Callers that only need some of them, e.g. allLCS(a, b).limit(k), pay
+     * for the first k only. Closing the stream returns its table to the pool.
+     *
+     * @param s1 First string
+     * @param s2 Second string
+     * @return Stream of distinct LCSs; empty if there is no common subsequence
+     */
+    public static Stream<String> allLCS(String s1, String s2) {
+        AllLCS lcs = new AllLCS(s1, s2);
+        return lcs.stream().onClose(lcs::close);
+    }
+
+    /**
+     * Counts the distinct Longest Common Subsequences of two strings
+     * without enumerating them, in O(m * n) time and O(n) space.
+     *
+     * With N[i][j] the number of distinct LCSs of X[0..i) and Y[0..j):
+     * if X[i-1] == Y[j-1], every LCS ends with that character and
+     * N[i][j] = N[i-1][j-1]; otherwise the LCSs are the union of those of
+     * (i-1, j) and (i, j-1) that reach length c[i][j], and their common
+     * part is exactly the LCSs of (i-1, j-1) when those are as long.
+     *
+     * Exact counts grow to thousands of bits on long inputs, so each cell
+     * costs a BigInteger addition; countLCS(String, String, long) is the
+     * fast path when a count modulo a prime is enough.
+     *
+     * @param s1 First string
+     * @param s2 Second string
+     * @return Number of distinct LCSs (1 when the only one is the empty string)
+     */
+    public static BigInteger countLCS(String s1, String s2) {
+        char[] x = s1.toCharArray();
+        char[] y = s2.toCharArray();
+        int cols = y.length;
+        int[] cPrevious = new int[cols + 1];
+        int[] cCurrent = new int[cols + 1];
+        BigInteger[] nPrevious = new BigInteger[cols + 1];
+        BigInteger[] nCurrent = new BigInteger[cols + 1];
+        Arrays.fill(nPrevious, BigInteger.ONE);
+        nCurrent[0] = BigInteger.ONE;
+
+        for (int i = 1; i <= x.length; i++) {
+            for (int j = 1; j <= cols; j++) {
+                if (x[i - 1] == y[j - 1]) {
+                    cCurrent[j] = cPrevious[j - 1] + 1;
+                    nCurrent[j] = nPrevious[j - 1];
+                } else {
+                    // Counts propagate by reference, so when only one neighbour
+                    // reaches the length, or the diagonal cancels a neighbour it was
+                    // copied from, the cell shares a count without any arithmetic
+                    int up = cPrevious[j];
+                    int left = cCurrent[j - 1];
+                    if (up > left) {
+                        cCurrent[j] = up;
+                        nCurrent[j] = nPrevious[j];
+                    } else if (left > up) {
+                        cCurrent[j] = left;
+                        nCurrent[j] = nCurrent[j - 1];
+                    } else {
+                        BigInteger nUp = nPrevious[j];
+                        BigInteger nLeft = nCurrent[j - 1];
+                        cCurrent[j] = up;
+                        if (cPrevious[j - 1] != up) {
+                            nCurrent[j] = nUp.add(nLeft);
+                        } else if (nPrevious[j - 1] == nUp) {
+                            nCurrent[j] = nLeft;
+                        } else if (nPrevious[j - 1] == nLeft) {
+                            nCurrent[j] = nUp;
+                        } else {
+                            nCurrent[j] = nUp.add(nLeft).subtract(nPrevious[j - 1]);
+                        }
+                    }
+                }
+            }
+            int[] cTemp = cPrevious;
+            cPrevious = cCurrent;
+            cCurrent = cTemp;
+            BigInteger[] nTemp = nPrevious;
+            nPrevious = nCurrent;
+            nCurrent = nTemp;
+        }
+
+        return nPrevious[cols];
+    }
+
+    /**
+     * Counts the distinct LCSs modulo mod, with the recurrence of
+     * countLCS(String, String) on primitive rows.
+     *
+     * @param s1  First string
+     * @param s2  Second string
+     * @param mod Modulus, at least 1 and below 2^62
+     * @return Number of distinct LCSs modulo mod
+     */
+    public static long countLCS(String s1, String s2, long mod) {
+        if (mod < 1 || mod >= (1L << 62)) {
+            throw new IllegalArgumentException("Modulus must be between 1 and 2^62 - 1.");
+        }
+        char[] x = s1.toCharArray();
+        char[] y = s2.toCharArray();
+        int cols = y.length;
+        int[] cPrevious = new int[cols + 1];
+        int[] cCurrent = new int[cols + 1];
+        long[] nPrevious = new long[cols + 1];
+        long[] nCurrent = new long[cols + 1];
+        Arrays.fill(nPrevious, 1 % mod);
+        nCurrent[0] = 1 % mod;
+
+        for (int i = 1; i <= x.length; i++) {
+            for (int j = 1; j <= cols; j++) {
+                if (x[i - 1] == y[j - 1]) {
+                    cCurrent[j] = cPrevious[j - 1] + 1;
+                    nCurrent[j] = nPrevious[j - 1];
+                } else {
+                    int up = cPrevious[j];
+                    int left = cCurrent[j - 1];
+                    if (up > left) {
+                        cCurrent[j] = up;
+                        nCurrent[j] = nPrevious[j];
+                    } else if (left > up) {
+                        cCurrent[j] = left;
+                        nCurrent[j] = nCurrent[j - 1];
+                    } else {
+                        // Counts stay in [0, mod), so count lies in (-mod, 2 * mod) and
+                        // one correction brings it back without a division
+                        long count = nPrevious[j] + nCurrent[j - 1];
+                        if (cPrevious[j - 1] == up) {
+                            count -= nPrevious[j - 1];
+                        }
+                        if (count >= mod) {
+                            count -= mod;
+                        } else if (count < 0) {
+                            count += mod;
+                        }
+                        cCurrent[j] = up;
+                        nCurrent[j] = count;
+                    }
+                }
+            }
+            int[] cTemp = cPrevious;
+            cPrevious = cCurrent;
+            cCurrent = cTemp;
+            long[] nTemp = nPrevious;
+            nPrevious = nCurrent;
+            nCurrent = nTemp;
+        }
+
+        return nPrevious[cols];
+    }
+
+    /**
+     * Depth-first enumeration of the distinct LCSs, driven by the DP table c.
+     *
+     * Subsequences are built from their last character backwards. From a state
+     * (i, j) that still needs k characters, the next character ch is matched at
+     * its last occurrence before i in X and before j in Y, and only if the
+     * prefixes in front of that match still hold an LCS of length k - 1. Every
+     * branch taken therefore completes an LCS, so no work is wasted on dead ends.
+     * Because each subsequence is only ever matched at its rightmost embedding,
+     * each distinct subsequence is reached by exactly one path: no duplicates
+     * are produced and none need to be remembered.
+     */
+    static class LCSIterator implements Iterator<String> {
+        private final LengthTable c;
+        private final int lcsLength;
+        private final char[] alphabet;    // Characters common to X and Y, in sorted order
+        private final int[][] previousX;  // previousX[a][i]: last index < i of alphabet[a] in X, or -1
+        private final int[][] previousY;  // previousY[a][j]: last index < j of alphabet[a] in Y, or -1
+
+        // Search state: depth is the number of characters chosen so far
+        private final int[] stateI;
+        private final int[] stateJ;
+        private final int[] nextChar;     // Next alphabet index to try at each depth
+        private final char[] current;     // Characters chosen so far, filled from the end
+        private int depth;
+        private String next;
+
+        LCSIterator(char[] X, char[] Y, LengthTable c) {
+            this.c = c;
+            this.lcsLength = c.get(X.length, Y.length);
 
-        // Check if there is at least one common subsequence
-        if (lcsLength == 0) {
-            System.out.println("No Common Subsequence found.");
-            return;
+            boolean[] inX = new boolean[Character.MAX_VALUE + 1];
+            boolean[] common = new boolean[Character.MAX_VALUE + 1];
+            for (char ch : X) {
+                inX[ch] = true;
+            }
+            StringBuilder chars = new StringBuilder();
+            for (char ch : Y) {
+                if (inX[ch] && !common[ch]) {
+                    common[ch] = true;
+                    chars.append(ch);
+                }
+            }
+            alphabet = chars.toString().toCharArray();
+            Arrays.sort(alphabet);
+            previousX = previousOccurrences(X, alphabet);
+            previousY = previousOccurrences(Y, alphabet);
+
+            stateI = new int[lcsLength + 1];
+            stateJ = new int[lcsLength + 1];
+            nextChar = new int[lcsLength + 1];
+            current = new char[lcsLength];
+            stateI[0] = X.length;
+            stateJ[0] = Y.length;
+            depth = lcsLength == 0 ? -1 : 0;
+            next = advance();
+        }
+
+        private static int[][] previousOccurrences(char[] S, char[] alphabet) {
+            int[][] previous = new int[alphabet.length][S.length + 1];
+            for (int a = 0; a < alphabet.length; a++) {
+                int last = -1;
+                for (int i = 0; i <= S.length; i++) {
+                    previous[a][i] = last;
+                    if (i < S.length && S[i] == alphabet[a]) {
+                        last = i;
+                    }
+                }
+            }
+            return previous;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
         }
 
-        System.out.println("Length of LCS is " + lcsLength);
-        LCS = new char[lcsLength];
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String result = next;
+            next = advance();
+            return result;
+        }
 
-        System.out.println("All Longest Common Subsequences are:");
-        // Start the recursive process with initial indices set to -1
-        printAllLCS(-1, -1, -1);
+        // Continues the depth-first search up to the next complete LCS
+        private String advance() {
+            while (depth >= 0) {
+                if (depth == lcsLength) {
+                    depth--;
+                    return new String(current);
+                }
+                int a = nextChar[depth]++;
+                if (a == alphabet.length) {
+                    depth--;
+                    continue;
+                }
+                int ii = previousX[a][stateI[depth]];
+                int jj = previousY[a][stateJ[depth]];
+                if (ii >= 0 && jj >= 0 && c.get(ii, jj) == lcsLength - depth - 1) {
+                    current[lcsLength - depth - 1] = alphabet[a];
+                    depth++;
+                    stateI[depth] = ii;
+                    stateJ[depth] = jj;
+                    nextChar[depth] = 0;
+                }
+            }
+            return null;
+        }
     }
 
     /**
      * Computes the length of the Longest Common Subsequence (LCS)
-     * using dynamic programming.
+     * using dynamic programming. The table is filled tile by tile with
+     * the wavefront scheduler of LCS.lcsWavefront: tiles of one
+     * anti-diagonal run in parallel on the pool, and a table that fits in
+     * one tile is filled on the calling thread.
+     */
+    private void computeLCSLength(ForkJoinPool pool) {
+        c = LengthTable.acquire(m, n);
+
+        int tile = LCS.WAVEFRONT_TILE;
+        int tileRows = (m + tile - 1) / tile;
+        int tileCols = (n + tile - 1) / tile;
+        if (tileRows > 0 && tileCols > 0) {
+            LCS.runWavefront(tileRows, tileCols, pool, (ti, tj) -> c.fill(X, Y,
+                    ti * tile + 1, Math.min(m, (ti + 1) * tile),
+                    tj * tile + 1, Math.min(n, (tj + 1) * tile)));
+        }
+
+        lcsLength = c.get(m, n);
+    }
+
+    /**
+     * LCS length table stored as one flat row-major array with a stride of
+     * n + 1. Entries never exceed min(m, n), so the narrowest element type
+     * that holds min(m, n) is used: 1 byte per cell up to 127, 2 bytes up to
+     * 32767 and 4 bytes beyond.
      */
-    private static void computeLCSLength() {
-        c = new int[m + 1][n + 1];
+    abstract static class LengthTable {
+        final int stride;
 
-        // Build the LCS length table
-        for (int i = 0; i <= m; i++) {
+        LengthTable(int n) {
+            this.stride = n + 1;
+        }
+
+        /**
+         * Takes a table for an m x n problem from the pool, with row 0 and
+         * column 0 cleared.
+         */
+        static LengthTable acquire(int m, int n) {
+            long cells = (long) (m + 1) * (n + 1);
+            if (cells > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("LCS table of " + cells + " cells is too large.");
+            }
+            int limit = Math.min(m, n);
+            LengthTable table = limit <= Byte.MAX_VALUE ? new ByteTable(m, n, (int) cells)
+                    : limit <= Short.MAX_VALUE ? new ShortTable(m, n, (int) cells)
+                    : new IntTable(m, n, (int) cells);
             for (int j = 0; j <= n; j++) {
-                if (i == 0 || j == 0) {
-                    c[i][j] = 0;
-                } else if (X[i - 1] == Y[j - 1]) {
-                    c[i][j] = c[i - 1][j - 1] + 1;
-                } else {
-                    c[i][j] = Math.max(c[i - 1][j], c[i][j - 1]);
+                table.set(0, j, 0);
+            }
+            for (int i = 1; i <= m; i++) {
+                table.set(i, 0, 0);
+            }
+            return table;
+        }
+
+        abstract int get(int i, int j);
+
+        abstract void set(int i, int j, int value);
+
+        /**
+         * Fills rows i0..i1 and columns j0..j1 of the LCS length table,
+         * assuming the rows above and the columns to the left are done.
+         */
+        abstract void fill(char[] X, char[] Y, int i0, int i1, int j0, int j1);
+
+        /**
+         * Hands the buffer back to the pool.
+         */
+        abstract void release();
+    }
+
+    static final class ByteTable extends LengthTable {
+        private final byte[] t;
+
+        ByteTable(int m, int n, int cells) {
+            super(n);
+            t = BYTE_BUFFERS.acquire(cells);
+        }
+
+        int get(int i, int j) {
+            return t[i * stride + j];
+        }
+
+        void set(int i, int j, int value) {
+            t[i * stride + j] = (byte) value;
+        }
+
+        void fill(char[] X, char[] Y, int i0, int i1, int j0, int j1) {
+            for (int i = i0; i <= i1; i++) {
+                int row = i * stride, up = row - stride;
+                char x = X[i - 1];
+                for (int j = j0; j <= j1; j++) {
+                    if (x == Y[j - 1]) {
+                        t[row + j] = (byte) (t[up + j - 1] + 1);
+                    } else {
+                        t[row + j] = (byte) Math.max(t[up + j], t[row + j - 1]);
+                    }
+                }
+            }
+        }
+
+        void release() {
+            BYTE_BUFFERS.release(t);
+        }
+    }
+
+    static final class ShortTable extends LengthTable {
+        private final short[] t;
+
+        ShortTable(int m, int n, int cells) {
+            super(n);
+            t = SHORT_BUFFERS.acquire(cells);
+        }
+
+        int get(int i, int j) {
+            return t[i * stride + j];
+        }
+
+        void set(int i, int j, int value) {
+            t[i * stride + j] = (short) value;
+        }
+
+        void fill(char[] X, char[] Y, int i0, int i1, int j0, int j1) {
+            for (int i = i0; i <= i1; i++) {
+                int row = i * stride, up = row - stride;
+                char x = X[i - 1];
+                for (int j = j0; j <= j1; j++) {
+                    if (x == Y[j - 1]) {
+                        t[row + j] = (short) (t[up + j - 1] + 1);
+                    } else {
+                        t[row + j] = (short) Math.max(t[up + j], t[row + j - 1]);
+                    }
                 }
             }
         }
 
-        lcsLength = c[m][n];
+        void release() {
+            SHORT_BUFFERS.release(t);
+        }
+    }
+
+    static final class IntTable extends LengthTable {
+        private final int[] t;
+
+        IntTable(int m, int n, int cells) {
+            super(n);
+            t = INT_BUFFERS.acquire(cells);
+        }
+
+        int get(int i, int j) {
+            return t[i * stride + j];
+        }
+
+        void set(int i, int j, int value) {
+            t[i * stride + j] = value;
+        }
+
+        void fill(char[] X, char[] Y, int i0, int i1, int j0, int j1) {
+            for (int i = i0; i <= i1; i++) {
+                int row = i * stride, up = row - stride;
+                char x = X[i - 1];
+                for (int j = j0; j <= j1; j++) {
+                    if (x == Y[j - 1]) {
+                        t[row + j] = t[up + j - 1] + 1;
+                    } else {
+                        t[row + j] = Math.max(t[up + j], t[row + j - 1]);
+                    }
+                }
+            }
+        }
+
+        void release() {
+            INT_BUFFERS.release(t);
+        }
+    }
+
+    /**
+     * Bounded, thread-safe pool of table buffers. A pooled buffer that is
+     * too small for a request is dropped and a larger one allocated, so the
+     * pool drifts towards the sizes a service actually uses.
+     */
+    static final class BufferPool<T> {
+        private final ArrayBlockingQueue<T> free = new ArrayBlockingQueue<>(POOL_CAPACITY);
+        private final IntFunction<T> allocator;
+        private final ToIntFunction<T> length;
+
+        BufferPool(IntFunction<T> allocator, ToIntFunction<T> length) {
+            this.allocator = allocator;
+            this.length = length;
+        }
+
+        T acquire(int size) {
+            T buffer = free.poll();
+            return buffer != null && length.applyAsInt(buffer) >= size ? buffer : allocator.apply(size);
+        }
+
+        void release(T buffer) {
+            free.offer(buffer); // Dropped if the pool is full
+        }
     }
 
     /**
@@ -72,12 +606,12 @@ public class AllLCS {
      * @param j Current index in the second string
      * @param k Current position in the LCS array
      */
-    private static void printAllLCS(int i, int j, int k) {
+    private void printAllLCS(int i, int j, int k) {
         if (isPromising(i, j, k)) {
             if (k == lcsLength - 1) {
                 // LCS is complete; print it
                 for (int a = 0; a < lcsLength; a++) {
-                    System.out.print(LCS[a]);
+                    System.out.print(lcsBuffer[a]);
                 }
                 System.out.println();
             } else {
@@ -85,7 +619,7 @@ public class AllLCS {
                 for (int ii = i + 1; ii < m; ii++) {
                     for (int jj = j + 1; jj < n; jj++) {
                         if (X[ii] == Y[jj]) {
-                            LCS[k + 1] = X[ii];
+                            lcsBuffer[k + 1] = X[ii];
                             printAllLCS(ii, jj, k + 1);
                         }
                     }
@@ -102,7 +636,7 @@ public class AllLCS {
      * @param k Current position in the LCS array
      * @return true if promising, false otherwise
      */
-    private static boolean isPromising(int i, int j, int k) {
+    private boolean isPromising(int i, int j, int k) {
         if (k == lcsLength - 1) {
             return true;
         }
@@ -0,0 +1,454 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Byte-oriented Huffman compressor built on HuffmanCoding's tree builder.
+ *
+ * Input is cut into blocks of at most BLOCK_SIZE bytes, each with its own code, so a
+ * stream of any length is compressed in one pass with bounded memory. A block is
+ * written as
+ *
+ *   symbol count (int), 256 code lengths (one byte each), encoded length (int), encoded bits
+ *
+ * and the stream ends with a symbol count of 0. Codes are canonical, so the lengths
+ * alone describe them. Bits are packed least significant first into long words, each
+ * code bit-reversed, so the decoder indexes a lookup table with the next TABLE_BITS
+ * bits. Codes are length-limited to TABLE_BITS, so each symbol takes one lookup; longer
+ * codes, from other writers of the format, take a bit-by-bit path.
+ *
+ * Files and FileChannels go through Files.newInputStream or Channels.newInputStream.
+ */
+public class HuffmanCodec {
+
+    static final int ALPHABET = 256;
+
+    // Bytes per block
+    static final int BLOCK_SIZE = 1 << 20;
+
+    // Bits resolved by one table lookup: 2K entries, small enough to stay in L1
+    static final int TABLE_BITS = 11;
+
+    // Longest code the encoder emits. Limiting codes to the table width means every code
+    // it writes decodes with a single lookup; the decoder still accepts longer codes.
+    static final int MAX_CODE_LENGTH = TABLE_BITS;
+
+    public static void encode(InputStream in, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        byte[] block = new byte[BLOCK_SIZE];
+        BitWriter writer = new BitWriter();
+        int count;
+        while ((count = readBlock(in, block)) > 0) {
+            long[] frequencies = new long[ALPHABET];
+            for (int i = 0; i < count; i++) {
+                frequencies[block[i] & 0xFF]++;
+            }
+            int[] lengths = HuffmanCoding.codeLengths(frequencies, MAX_CODE_LENGTH);
+            int[] codes = reversedCodes(lengths);
+
+            writer.reset();
+            for (int i = 0; i < count; i++) {
+                int symbol = block[i] & 0xFF;
+                writer.write(codes[symbol], lengths[symbol]);
+            }
+            writer.finish();
+
+            data.writeInt(count);
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                data.writeByte(lengths[symbol]);
+            }
+            data.writeInt(writer.size());
+            data.write(writer.buffer(), 0, writer.size());
+        }
+        data.writeInt(0);
+        data.flush();
+    }
+
+    public static void decode(InputStream in, OutputStream out) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        byte[] block = new byte[BLOCK_SIZE];
+        byte[] encoded = new byte[1 << 16];
+        int[] lengths = new int[ALPHABET];
+        int count;
+        while ((count = data.readInt()) != 0) {
+            if (count < 0 || count > BLOCK_SIZE) {
+                throw new IOException("Corrupt block header: " + count + " symbols.");
+            }
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                lengths[symbol] = data.readUnsignedByte();
+            }
+            DecodeTable table;
+            try {
+                table = new DecodeTable(lengths);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt block header: " + e.getMessage(), e);
+            }
+            // count symbols of at most maxLength bits each bound the encoded size, so a
+            // corrupt length is rejected before the buffer is sized from it
+            int encodedLength = data.readInt();
+            long maxEncodedLength = ((long) count * table.maxLength + 7) >>> 3;
+            if (encodedLength < 0 || encodedLength > maxEncodedLength) {
+                throw new IOException("Corrupt block header: encoded length " + encodedLength + ".");
+            }
+            if (encoded.length < encodedLength) {
+                encoded = new byte[encodedLength];
+            }
+            data.readFully(encoded, 0, encodedLength);
+
+            BitReader reader = new BitReader(encoded, encodedLength);
+            for (int i = 0; i < count; i++) {
+                block[i] = (byte) table.decode(reader);
+            }
+            out.write(block, 0, count);
+        }
+        out.flush();
+    }
+
+    public static byte[] encode(byte[] input) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            encode(new ByteArrayInputStream(input), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // In-memory streams do not fail
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] decode(byte[] input) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        decode(new ByteArrayInputStream(input), out);
+        return out.toByteArray();
+    }
+
+    // Reads until the block is full or the stream ends; returns the number of bytes read
+    private static int readBlock(InputStream in, byte[] block) throws IOException {
+        int count = 0;
+        while (count < block.length) {
+            int read = in.read(block, count, block.length - count);
+            if (read < 0) {
+                break;
+            }
+            count += read;
+        }
+        return count;
+    }
+
+    // Canonical code assignment: codes of each length are consecutive, shorter codes come
+    // first, and within a length symbols are in increasing order. Codes are read most
+    // significant bit first; symbols with length 0 get no code.
+    static int[] canonicalCodes(int[] lengths) {
+        int maxLength = 0;
+        for (int length : lengths) {
+            maxLength = Math.max(maxLength, length);
+        }
+        int[] count = new int[maxLength + 1];
+        for (int length : lengths) {
+            count[length]++;
+        }
+        count[0] = 0;
+
+        // First code of each length
+        int[] next = new int[maxLength + 1];
+        int code = 0;
+        for (int length = 1; length <= maxLength; length++) {
+            code = (code + count[length - 1]) << 1;
+            next[length] = code;
+        }
+
+        int[] codes = new int[lengths.length];
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                codes[symbol] = next[lengths[symbol]]++;
+            }
+        }
+        return codes;
+    }
+
+    // Canonical codes bit-reversed for least-significant-first packing
+    static int[] reversedCodes(int[] lengths) {
+        int[] codes = canonicalCodes(lengths);
+        for (int symbol = 0; symbol < lengths.length; symbol++) {
+            if (lengths[symbol] > 0) {
+                codes[symbol] = Integer.reverse(codes[symbol]) >>> (32 - lengths[symbol]);
+            }
+        }
+        return codes;
+    }
+
+    // Packs codes least significant bit first into long words, stored little-endian
+    static class BitWriter {
+        private byte[] buffer = new byte[1 << 16];
+        private int size;     // Bytes written to buffer
+        private long word;    // Pending bits, first bit in bit 0
+        private int bits;     // Number of pending bits
+
+        // Appends the low length bits of code, 1 <= length <= 32
+        void write(int code, int length) {
+            long value = code & 0xFFFFFFFFL;
+            word |= value << bits;
+            bits += length;
+            if (bits >= 64) {
+                putWord(word);
+                bits -= 64;
+                // Bits of value that did not fit in the word just written
+                word = bits == 0 ? 0 : value >>> (length - bits);
+            }
+        }
+
+        // Writes the pending bits, padding the last byte with zeros
+        void finish() {
+            int bytes = (bits + 7) >>> 3;
+            ensureCapacity(bytes);
+            for (int i = 0; i < bytes; i++) {
+                buffer[size++] = (byte) (word >>> (8 * i));
+            }
+            word = 0;
+            bits = 0;
+        }
+
+        void reset() {
+            size = 0;
+            word = 0;
+            bits = 0;
+        }
+
+        // Writes the completed bytes to out; bits not yet filling a word stay pending
+        void drainTo(OutputStream out) throws IOException {
+            out.write(buffer, 0, size);
+            size = 0;
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void putWord(long w) {
+            ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                buffer[size++] = (byte) (w >>> (8 * i));
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, size + extra));
+            }
+        }
+    }
+
+    // Reads bits least significant first from a byte array or an InputStream; past the
+    // end it reads zeros, and overrun() tells whether any of them have been consumed
+    static class BitReader {
+        private byte[] data;
+        private int end;
+        private int pos;
+        private InputStream source;  // Refills data when it runs out, or null
+        private long word;    // Buffered bits, next bit in bit 0
+        private int bits;     // Number of buffered bits
+        private long padding; // Zero bytes appended past the end of the input
+
+        BitReader(byte[] data, int end) {
+            this.data = data;
+            this.end = end;
+        }
+
+        // Streams from source, reading ahead up to 64 KiB
+        BitReader(InputStream source) {
+            this.data = new byte[1 << 16];
+            this.source = source;
+        }
+
+        // Tops the buffer up to at least 57 bits
+        void refill() throws IOException {
+            need(57);
+        }
+
+        // Tops the buffer up to at least n bits, n <= 57; the source is only read when the
+        // bytes already received cannot supply them, so a live stream does not block early
+        void need(int n) throws IOException {
+            while (bits < n) {
+                if (pos == end && source != null) {
+                    int read = source.read(data, 0, data.length);
+                    if (read < 0) {
+                        source = null;
+                    } else {
+                        end = read;
+                        pos = 0;
+                    }
+                }
+                long b = 0;
+                if (pos < end) {
+                    b = data[pos] & 0xFF;
+                } else {
+                    padding++;
+                }
+                pos++;
+                word |= b << bits;
+                bits += 8;
+            }
+        }
+
+        // Whether bits past the end of the input have been consumed; the padding bytes
+        // were appended last, so they are the top 8 * padding buffered bits
+        boolean overrun() {
+            return bits < 8 * padding;
+        }
+
+        // Drops the rest of the current byte
+        void alignToByte() {
+            skip(bits & 7);
+        }
+
+        long peek(int n) {
+            return word & ((1L << n) - 1);
+        }
+
+        void skip(int n) {
+            word >>>= n;
+            bits -= n;
+        }
+
+        int readBit() {
+            int bit = (int) (word & 1);
+            word >>>= 1;
+            bits--;
+            return bit;
+        }
+    }
+
+    // Decoder for one canonical code. Codes of at most TABLE_BITS bits are resolved by one
+    // lookup of the next TABLE_BITS bits; longer codes fall back to a canonical walk.
+    static class DecodeTable {
+        private final int[] table = new int[1 << TABLE_BITS]; // symbol << 8 | length, or 0 if longer
+        private final int maxLength;
+        private final int[] count;       // Number of codes of each length
+        private final int[] firstCode;   // First canonical code of each length
+        private final int[] firstIndex;  // Position in sorted of the first symbol of each length
+        private final int[] sorted;      // Symbols in canonical order
+
+        DecodeTable(int[] lengths) {
+            int max = 0;
+            for (int length : lengths) {
+                max = Math.max(max, length);
+            }
+            if (max > 32) {
+                throw new IllegalArgumentException("code length " + max + " exceeds 32 bits");
+            }
+            maxLength = max;
+            count = new int[maxLength + 1];
+            for (int length : lengths) {
+                if (length > 0) {
+                    count[length]++;
+                }
+            }
+
+            // Kraft inequality: the lengths must describe a prefix code
+            long kraft = 0;
+            for (int length = 1; length <= maxLength; length++) {
+                kraft += (long) count[length] << (maxLength - length);
+            }
+            if (kraft > 1L << maxLength) {
+                throw new IllegalArgumentException("code lengths do not form a prefix code");
+            }
+
+            firstCode = new int[maxLength + 1];
+            firstIndex = new int[maxLength + 1];
+            int code = 0;
+            int index = 0;
+            for (int length = 1; length <= maxLength; length++) {
+                code = (code + count[length - 1]) << 1;
+                firstCode[length] = code;
+                firstIndex[length] = index;
+                index += count[length];
+            }
+            sorted = new int[index];
+            int[] next = firstIndex.clone();
+            for (int symbol = 0; symbol < lengths.length; symbol++) {
+                if (lengths[symbol] > 0) {
+                    sorted[next[lengths[symbol]]++] = symbol;
+                }
+            }
+
+            int[] codes = reversedCodes(lengths);
+            for (int symbol = 0; symbol < lengths.length; symbol++) {
+                int length = lengths[symbol];
+                if (length > 0 && length <= TABLE_BITS) {
+                    // Every table index whose low length bits are this code
+                    for (int i = codes[symbol]; i < table.length; i += 1 << length) {
+                        table[i] = symbol << 8 | length;
+                    }
+                }
+            }
+        }
+
+        int decode(BitReader reader) throws IOException {
+            reader.refill();
+            int entry = table[(int) reader.peek(TABLE_BITS)];
+            if (entry != 0) {
+                reader.skip(entry & 0xFF);
+                return entry >>> 8;
+            }
+            // Longer code: extend it bit by bit until it falls in some length's range
+            int code = 0;
+            for (int length = 1; length <= maxLength; length++) {
+                code = (code << 1) | reader.readBit();
+                int offset = code - firstCode[length];
+                if (offset >= 0 && offset < count[length]) {
+                    return sorted[firstIndex[length] + offset];
+                }
+            }
+            throw new IOException("Invalid code in encoded data.");
+        }
+    }
+
+    // Usage: HuffmanCodec encode|decode <source> <target>; without arguments runs a demo
+    public static void main(String[] args) {
+        try {
+            if (args.length == 3) {
+                try (InputStream in = Files.newInputStream(Paths.get(args[1]));
+                     OutputStream out = Files.newOutputStream(Paths.get(args[2]))) {
+                    if (args[0].equals("encode")) {
+                        encode(in, out);
+                    } else if (args[0].equals("decode")) {
+                        decode(in, out);
+                    } else {
+                        throw new IllegalArgumentException("Unknown mode: " + args[0]);
+                    }
+                }
+                return;
+            }
+
+            String text = "this is an example of a huffman tree built from canonical code lengths";
+            byte[] input = text.getBytes(StandardCharsets.UTF_8);
+            long[] frequencies = new long[ALPHABET];
+            for (byte b : input) {
+                frequencies[b & 0xFF]++;
+            }
+            int[] lengths = HuffmanCoding.codeLengths(frequencies);
+            int[] codes = canonicalCodes(lengths);
+
+            System.out.println("Canonical Huffman Codes:");
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                if (lengths[symbol] > 0) {
+                    StringBuilder code = new StringBuilder(Integer.toBinaryString(codes[symbol]));
+                    while (code.length() < lengths[symbol]) {
+                        code.insert(0, '0');
+                    }
+                    System.out.println("Symbol: '" + (char) symbol + "', Code: " + code);
+                }
+            }
+
+            byte[] encoded = encode(input);
+            byte[] decoded = decode(encoded);
+            System.out.println("\nOriginal size: " + input.length + " bytes, encoded size: " + encoded.length + " bytes");
+            System.out.println("Round trip matches: " + Arrays.equals(input, decoded));
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+        }
+    }
+}
@@ -1,32 +1,136 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class HuffmanCoding {
 
-    // Priority Queue Class
+    // Bytes of a file counted by one task of countFrequencies; each task maps its own region
+    static final int COUNT_CHUNK = 1 << 24;
+
+    // Bytes copied out of a mapped region per bulk read while counting
+    static final int COUNT_BUFFER = 1 << 16;
+
+    // Binary min-heap of int ids over primitive arrays, keyed by frequency. Among equal
+    // frequencies the most recently inserted id comes out first, the same order the
+    // original sorted-list queue gave, so the codes do not change.
+    static class MinHeap {
+        private long[] keys = new long[16];   // Frequency of each heap entry
+        private int[] ids = new int[16];      // Id of each heap entry
+        private long[] order = new long[16];  // Insertion sequence of each heap entry
+        private int size;
+        private long inserted;
+
+        public void push(int id, long frequency) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, 2 * size);
+                ids = Arrays.copyOf(ids, 2 * size);
+                order = Arrays.copyOf(order, 2 * size);
+            }
+            long seq = inserted++;
+            int i = size++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!less(frequency, seq, keys[up], order[up])) {
+                    break;
+                }
+                keys[i] = keys[up];
+                ids[i] = ids[up];
+                order[i] = order[up];
+                i = up;
+            }
+            keys[i] = frequency;
+            ids[i] = id;
+            order[i] = seq;
+        }
+
+        // Removes the entry with the smallest frequency and returns its id
+        public int pop() {
+            if (size == 0) {
+                throw new NoSuchElementException("Heap is empty.");
+            }
+            int top = ids[0];
+            size--;
+            long key = keys[size];
+            int id = ids[size];
+            long seq = order[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && less(keys[child + 1], order[child + 1], keys[child], order[child])) {
+                    child++;
+                }
+                if (!less(keys[child], order[child], key, seq)) {
+                    break;
+                }
+                keys[i] = keys[child];
+                ids[i] = ids[child];
+                order[i] = order[child];
+                i = child;
+            }
+            keys[i] = key;
+            ids[i] = id;
+            order[i] = seq;
+            return top;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private static boolean less(long key, long seq, long otherKey, long otherSeq) {
+            return key < otherKey || (key == otherKey && seq > otherSeq);
+        }
+
+        // Copy of this heap, for display
+        MinHeap copy() {
+            MinHeap copy = new MinHeap();
+            copy.keys = keys.clone();
+            copy.ids = ids.clone();
+            copy.order = order.clone();
+            copy.size = size;
+            copy.inserted = inserted;
+            return copy;
+        }
+    }
+
+    // Priority Queue Class: a MinHeap of ids into a node table, O(log n) per operation
     static class PriorityQueue {
-        private List<Node> queue;
+        private final MinHeap heap;
+        private Node[] nodes;      // Node of each id; ids are handed out in insertion order
+        private int nextId;
+        long operations;           // Inserts and removes so far
     
         public PriorityQueue() {
-            this.queue = new ArrayList<>();
+            this.heap = new MinHeap();
+            this.nodes = new Node[16];
         }
     
-        // Insert node into the queue maintaining the order based on frequency
+        // Insert node into the queue keyed by its frequency
         public void insert(Node node) {
-            if (queue.isEmpty()) {
-                queue.add(node);
-            } else {
-                int i = 0;
-                while (i < queue.size() && queue.get(i).frequency < node.frequency) {
-                    i++;
-                }
-                queue.add(i, node);
+            if (nextId == nodes.length) {
+                nodes = Arrays.copyOf(nodes, 2 * nextId);
             }
+            nodes[nextId] = node;
+            heap.push(nextId++, node.frequency);
+            operations++;
         }
     
         // Remove and return the node with the smallest frequency
         public Node remove() throws Exception {
             if (!isEmpty()) {
-                return queue.remove(0);
+                int id = heap.pop();
+                operations++;
+                Node node = nodes[id];
+                nodes[id] = null;
+                return node;
             } else {
                 throw new Exception("Priority Queue is empty.");
             }
@@ -34,12 +138,14 @@ public class HuffmanCoding {
     
         // Check if the queue is empty
         public boolean isEmpty() {
-            return queue.isEmpty();
+            return heap.size() == 0;
         }
     
-        // For debugging: Display the current state of the queue
+        // For debugging: Display the current state of the queue in removal order
         public void display() {
-            for (Node node : queue) {
+            MinHeap copy = heap.copy();
+            while (copy.size() > 0) {
+                Node node = nodes[copy.pop()];
                 if (node.isLeaf()) {
                     System.out.print(node.symbol + ":" + node.frequency + " ");
                 } else {
@@ -98,8 +204,78 @@ public class HuffmanCoding {
         generateHuffmanCodes(node.right, currentCode + "1", codes);
     }
 
+    // Receives each step of huffmanCoding; every method does nothing unless overridden
+    public interface Listener {
+        default void inserted(Node node, PriorityQueue pq) {
+        }
+
+        default void initialized(PriorityQueue pq) {
+        }
+
+        default void merged(Node p, Node q, Node r, PriorityQueue pq) {
+        }
+
+        default void finished(Node root) {
+        }
+    }
+
+    // Default listener: no tracing
+    public static final Listener SILENT = new Listener() {
+    };
+
+    // Prints every queue operation and the queue after each merge to standard output
+    public static final Listener CONSOLE = new Listener() {
+        @Override
+        public void inserted(Node node, PriorityQueue pq) {
+            System.out.println("Inserted into PQ: " + node.symbol + " with frequency " + node.frequency);
+        }
+
+        @Override
+        public void initialized(PriorityQueue pq) {
+            System.out.print("\nInitial Priority Queue: ");
+            pq.display();
+        }
+
+        @Override
+        public void merged(Node p, Node q, Node r, PriorityQueue pq) {
+            System.out.println("\nRemoved from PQ: " + (p.isLeaf() ? p.symbol : "Internal") + " with frequency " + p.frequency +
+                               ", " + (q.isLeaf() ? q.symbol : "Internal") + " with frequency " + q.frequency);
+            System.out.println("Inserted into PQ: Internal node with frequency " + r.frequency);
+            System.out.print("Current Priority Queue: ");
+            pq.display();
+        }
+
+        @Override
+        public void finished(Node root) {
+            System.out.println("\nFinal Huffman Tree Root: Frequency " + root.frequency + "\n");
+        }
+    };
+
+    // Counters filled in by huffmanCoding
+    public static class Stats {
+        public long heapOperations;      // Inserts and removes on the priority queue
+        public int treeDepth;            // Depth of the deepest leaf
+        public long weightedPathLength;  // Sum of frequency * code length, the encoded size in bits
+
+        @Override
+        public String toString() {
+            return "Heap operations: " + heapOperations + ", tree depth: " + treeDepth
+                    + ", weighted path length: " + weightedPathLength;
+        }
+    }
+
     // Huffman Coding Algorithm
     public static Map<Character, String> huffmanCoding(char[] symbols, int[] frequencies) throws Exception {
+        return huffmanCoding(symbols, frequencies, SILENT, null);
+    }
+
+    public static Map<Character, String> huffmanCoding(char[] symbols, int[] frequencies, Listener listener) throws Exception {
+        return huffmanCoding(symbols, frequencies, listener, null);
+    }
+
+    // Reports each step to listener and, if stats is not null, fills it in
+    public static Map<Character, String> huffmanCoding(char[] symbols, int[] frequencies, Listener listener,
+                                                       Stats stats) throws Exception {
         int n = symbols.length;
         if (n != frequencies.length) {
             throw new IllegalArgumentException("The length of symbols and frequencies must be equal.");
@@ -112,57 +288,375 @@ public class HuffmanCoding {
         for (int i = 0; i < n; i++) {
             Node node = new Node(symbols[i], frequencies[i]);
             pq.insert(node);
-            System.out.println("Inserted into PQ: " + node.symbol + " with frequency " + node.frequency);
+            listener.inserted(node, pq);
         }
 
-        System.out.print("\nInitial Priority Queue: ");
-        pq.display();
+        listener.initialized(pq);
 
-        // Construct the Huffman Tree
+        // Construct the Huffman Tree; each internal node adds its frequency once for
+        // every leaf below it, so the internal frequencies sum to the weighted path length
+        long weightedPathLength = 0;
         for (int i = 0; i < n - 1; i++) {
             // Remove two nodes with the smallest frequencies
             Node p = pq.remove();
             Node q = pq.remove();
-            System.out.println("\nRemoved from PQ: " + (p.isLeaf() ? p.symbol : "Internal") + " with frequency " + p.frequency +
-                               ", " + (q.isLeaf() ? q.symbol : "Internal") + " with frequency " + q.frequency);
 
             // Create a new internal node with these two nodes as children
             Node r = new Node(p.frequency + q.frequency);
             r.left = p;
             r.right = q;
+            weightedPathLength += r.frequency;
 
             // Insert the new node back into the priority queue
             pq.insert(r);
-            System.out.println("Inserted into PQ: Internal node with frequency " + r.frequency);
-            System.out.print("Current Priority Queue: ");
-            pq.display();
+            listener.merged(p, q, r, pq);
         }
 
         // The remaining node is the root of the Huffman Tree
         Node root = pq.remove();
-        System.out.println("\nFinal Huffman Tree Root: Frequency " + root.frequency + "\n");
+        listener.finished(root);
 
         // Generate Huffman Codes by traversing the tree
         Map<Character, String> codes = new HashMap<>();
         generateHuffmanCodes(root, "", codes);
 
+        if (stats != null) {
+            stats.heapOperations = pq.operations;
+            stats.treeDepth = depth(root);
+            stats.weightedPathLength = weightedPathLength;
+        }
+        return codes;
+    }
+
+    // Depth of the deepest leaf, walked with an explicit stack
+    private static int depth(Node root) {
+        int deepest = 0;
+        Deque<Node> nodes = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(root);
+        depths.push(0);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            int d = depths.pop();
+            deepest = Math.max(deepest, d);
+            if (node.left != null) {
+                nodes.push(node.left);
+                depths.push(d + 1);
+            }
+            if (node.right != null) {
+                nodes.push(node.right);
+                depths.push(d + 1);
+            }
+        }
+        return deepest;
+    }
+
+    // Code length of every symbol, from a Huffman tree kept in primitive arrays instead of
+    // Node objects. Symbols with frequency 0 get no code (length 0); a lone symbol gets length 1.
+    // Ids below n are symbols and id n + k is the k-th internal node created.
+    public static int[] codeLengths(long[] frequencies) {
+        int n = frequencies.length;
+        int[] lengths = new int[n];
+        MinHeap heap = new MinHeap();
+        int used = 0;
+        for (int i = 0; i < n; i++) {
+            if (frequencies[i] < 0) {
+                throw new IllegalArgumentException("Frequencies must be non-negative.");
+            }
+            if (frequencies[i] > 0) {
+                heap.push(i, frequencies[i]);
+                used++;
+            }
+        }
+        if (used <= 1) {
+            for (int i = 0; i < n; i++) {
+                lengths[i] = frequencies[i] > 0 ? 1 : 0;
+            }
+            return lengths;
+        }
+
+        int internal = used - 1;
+        int[] parent = new int[n + internal];
+        long[] internalFrequency = new long[internal];
+        for (int k = 0; k < internal; k++) {
+            int a = heap.pop();
+            int b = heap.pop();
+            parent[a] = n + k;
+            parent[b] = n + k;
+            internalFrequency[k] = (a < n ? frequencies[a] : internalFrequency[a - n])
+                                 + (b < n ? frequencies[b] : internalFrequency[b - n]);
+            heap.push(n + k, internalFrequency[k]);
+        }
+
+        // A node is created after its children, so walking down from the root (the last
+        // node created) sees every parent before its children
+        int[] depth = new int[internal];
+        for (int k = internal - 2; k >= 0; k--) {
+            depth[k] = depth[parent[n + k] - n] + 1;
+        }
+        for (int i = 0; i < n; i++) {
+            if (frequencies[i] > 0) {
+                lengths[i] = depth[parent[i] - n] + 1;
+            }
+        }
+        return lengths;
+    }
+
+    // Optimal code lengths with no code longer than maxLength, by package-merge. Symbols are
+    // sorted by frequency; list 1 holds the symbols, and list t merges the symbols with
+    // packages formed by pairing consecutive items of list t - 1. The cheapest 2m - 2 items of
+    // list maxLength fix the lengths: every appearance of a symbol, directly or inside a
+    // package, adds one to its length. Takes O(m * maxLength) time for m used symbols.
+    public static int[] codeLengths(long[] frequencies, int maxLength) {
+        int[] lengths = codeLengths(frequencies);
+        int longest = 0;
+        int m = 0;
+        for (int length : lengths) {
+            longest = Math.max(longest, length);
+            if (length > 0) {
+                m++;
+            }
+        }
+        if (longest <= maxLength) {
+            return lengths; // The unrestricted code already fits
+        }
+        if (maxLength < 1 || (maxLength < 31 && (1 << maxLength) < m)) {
+            throw new IllegalArgumentException("A code of " + m + " symbols needs lengths above " + maxLength + ".");
+        }
+
+        // Used symbols in increasing order of frequency
+        Integer[] boxed = new Integer[m];
+        for (int i = 0, k = 0; i < frequencies.length; i++) {
+            if (frequencies[i] > 0) {
+                boxed[k++] = i;
+            }
+        }
+        Arrays.sort(boxed, (a, b) -> Long.compare(frequencies[a], frequencies[b]));
+        long[] leaf = new long[m];
+        for (int k = 0; k < m; k++) {
+            leaf[k] = frequencies[boxed[k]];
+        }
+
+        // isLeaf[t][k]: whether item k of list t + 1 is a symbol rather than a package
+        boolean[][] isLeaf = new boolean[maxLength][];
+        isLeaf[0] = new boolean[m];
+        Arrays.fill(isLeaf[0], true);
+        long[] list = leaf;
+        for (int t = 1; t < maxLength; t++) {
+            int packages = list.length / 2;
+            long[] merged = new long[m + packages];
+            boolean[] flags = new boolean[m + packages];
+            int a = 0, b = 0;
+            for (int k = 0; k < merged.length; k++) {
+                long packageWeight = b < packages ? list[2 * b] + list[2 * b + 1] : Long.MAX_VALUE;
+                if (a < m && leaf[a] <= packageWeight) {
+                    merged[k] = leaf[a++];
+                    flags[k] = true;
+                } else {
+                    merged[k] = packageWeight;
+                    b++;
+                }
+            }
+            list = merged;
+            isLeaf[t] = flags;
+        }
+
+        // Expand the cheapest 2m - 2 items of the last list back through the levels; the
+        // symbols among the first k items of a list are always a prefix of the sorted symbols
+        int[] limited = new int[frequencies.length];
+        int k = 2 * m - 2;
+        for (int t = maxLength - 1; t >= 0 && k > 0; t--) {
+            int symbols = 0;
+            for (int x = 0; x < k; x++) {
+                if (isLeaf[t][x]) {
+                    limited[boxed[symbols++]]++;
+                }
+            }
+            k = 2 * (k - symbols);
+        }
+        return limited;
+    }
+
+    // Byte frequencies of a file, ready for codeLengths. The file is memory-mapped in
+    // COUNT_CHUNK regions that are counted in parallel, each into its own histogram, and the
+    // histograms are summed pairwise as the tasks join.
+    public static long[] countFrequencies(Path file) throws IOException {
+        return countFrequencies(file, ForkJoinPool.commonPool());
+    }
+
+    // A null pool counts every region on the calling thread
+    public static long[] countFrequencies(Path file, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (pool == null) {
+                long[] histogram = new long[256];
+                for (long start = 0; start < size; start += COUNT_CHUNK) {
+                    countRegion(channel, start, Math.min(size, start + COUNT_CHUNK), histogram);
+                }
+                return histogram;
+            }
+            try {
+                return pool.invoke(new CountTask(channel, 0, size));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // Adds the byte counts of [start, end) of the channel to histogram
+    static void countRegion(FileChannel channel, long start, long end, long[] histogram) throws IOException {
+        MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        byte[] buffer = new byte[COUNT_BUFFER];
+        // Four interleaved histograms, so runs of the same byte do not serialize on one counter
+        int[] h0 = new int[256], h1 = new int[256], h2 = new int[256], h3 = new int[256];
+        while (region.hasRemaining()) {
+            int length = Math.min(buffer.length, region.remaining());
+            region.get(buffer, 0, length);
+            int i = 0;
+            for (; i + 3 < length; i += 4) {
+                h0[buffer[i] & 0xFF]++;
+                h1[buffer[i + 1] & 0xFF]++;
+                h2[buffer[i + 2] & 0xFF]++;
+                h3[buffer[i + 3] & 0xFF]++;
+            }
+            for (; i < length; i++) {
+                h0[buffer[i] & 0xFF]++;
+            }
+        }
+        // A region is at most COUNT_CHUNK bytes, so the int counters cannot overflow
+        for (int b = 0; b < 256; b++) {
+            histogram[b] += (long) h0[b] + h1[b] + h2[b] + h3[b];
+        }
+    }
+
+    static class CountTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+
+        CountTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected long[] compute() {
+            long chunks = (end - start + COUNT_CHUNK - 1) / COUNT_CHUNK;
+            if (chunks <= 1) {
+                long[] histogram = new long[256];
+                try {
+                    if (end > start) {
+                        countRegion(channel, start, end, histogram);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return histogram;
+            }
+            long mid = start + (chunks / 2) * COUNT_CHUNK;
+            CountTask left = new CountTask(channel, start, mid);
+            left.fork();
+            long[] histogram = new CountTask(channel, mid, end).compute();
+            long[] other = left.join();
+            for (int b = 0; b < 256; b++) {
+                histogram[b] += other[b];
+            }
+            return histogram;
+        }
+    }
+
+    // Two-queue Huffman Coding for frequencies already sorted in non-decreasing order: O(n).
+    // Leaves are taken from the input in order and internal nodes from a FIFO queue; internal
+    // nodes are created with non-decreasing frequencies, so both queues stay sorted and the
+    // two smallest nodes are always at their heads.
+    public static Map<Character, String> huffmanCodingSorted(char[] symbols, int[] frequencies) {
+        Node root = huffmanTreeSorted(symbols, frequencies);
+        Map<Character, String> codes = new HashMap<>();
+        generateHuffmanCodes(root, "", codes);
         return codes;
     }
 
-    // Example Usage
+    public static Node huffmanTreeSorted(char[] symbols, int[] frequencies) {
+        int n = symbols.length;
+        if (n != frequencies.length) {
+            throw new IllegalArgumentException("The length of symbols and frequencies must be equal.");
+        }
+        if (n == 0) {
+            return null;
+        }
+        Node[] leaves = new Node[n];
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && frequencies[i] < frequencies[i - 1]) {
+                throw new IllegalArgumentException("Frequencies must be sorted in non-decreasing order.");
+            }
+            leaves[i] = new Node(symbols[i], frequencies[i]);
+        }
+
+        Node[] internal = new Node[n - 1];
+        int leafHead = 0;
+        int internalHead = 0;
+        int internalTail = 0;
+        for (int i = 0; i < n - 1; i++) {
+            Node p = leafHead < n && (internalHead == internalTail || leaves[leafHead].frequency <= internal[internalHead].frequency)
+                    ? leaves[leafHead++] : internal[internalHead++];
+            Node q = leafHead < n && (internalHead == internalTail || leaves[leafHead].frequency <= internal[internalHead].frequency)
+                    ? leaves[leafHead++] : internal[internalHead++];
+
+            Node r = new Node(p.frequency + q.frequency);
+            r.left = p;
+            r.right = q;
+            internal[internalTail++] = r;
+        }
+        return n == 1 ? leaves[0] : internal[internalTail - 1];
+    }
+
+    // Example Usage; with a file argument, prints the code lengths of the file's bytes
     public static void main(String[] args) {
         try {
+            if (args.length == 1) {
+                long[] frequencies = countFrequencies(Paths.get(args[0]));
+                int[] lengths = codeLengths(frequencies);
+                System.out.println("Code lengths for the bytes of " + args[0] + ":");
+                for (int b = 0; b < 256; b++) {
+                    if (frequencies[b] > 0) {
+                        System.out.println("Byte: " + b + ", Frequency: " + frequencies[b] + ", Code length: " + lengths[b]);
+                    }
+                }
+                return;
+            }
+
             // Sample symbols and their frequencies
             char[] symbols = {'a', 'b', 'c', 'd', 'e'};
             int[] frequencies = {45, 13, 12, 16, 9};
 
             System.out.println("Huffman Coding Process:\n");
-            Map<Character, String> codes = huffmanCoding(symbols, frequencies);
+            Stats stats = new Stats();
+            Map<Character, String> codes = huffmanCoding(symbols, frequencies, CONSOLE, stats);
 
             System.out.println("Huffman Codes for the given symbols:");
             for (int i = 0; i < symbols.length; i++) {
                 System.out.println("Symbol: " + symbols[i] + ", Code: " + codes.get(symbols[i]));
             }
+            System.out.println(stats);
+
+            // Same symbols sorted by frequency, coded with the linear two-queue method
+            char[] sortedSymbols = {'e', 'c', 'b', 'd', 'a'};
+            int[] sortedFrequencies = {9, 12, 13, 16, 45};
+            Map<Character, String> sortedCodes = huffmanCodingSorted(sortedSymbols, sortedFrequencies);
+
+            System.out.println("\nHuffman Codes from the two-queue method:");
+            for (int i = 0; i < sortedSymbols.length; i++) {
+                System.out.println("Symbol: " + sortedSymbols[i] + ", Code: " + sortedCodes.get(sortedSymbols[i]));
+            }
+
+            // Fibonacci frequencies give the deepest tree; limit the codes to 4 bits
+            long[] fibonacci = {1, 1, 2, 3, 5, 8, 13, 21};
+            System.out.println("\nCode lengths for Fibonacci frequencies " + Arrays.toString(fibonacci) + ":");
+            System.out.println("Unrestricted: " + Arrays.toString(codeLengths(fibonacci)));
+            System.out.println("At most 4 bits: " + Arrays.toString(codeLengths(fibonacci, 4)));
 
             // Another Example with unique symbols
             // char[] uniqueSymbols = {'W', 'h', 'e', 'n', 'v', 'r'};
@@ -0,0 +1,250 @@
+import java.util.*;
+
+/**
+ * Answers many 0/1 knapsack queries against one item catalogue. The 1D DP of
+ * KnapsackRefinedDP is run once up to the largest capacity asked for; after
+ * that P[W] holds the best profit for every capacity W up to it, so a query
+ * is a single array read. Chosen items come from a keep bitset filled during
+ * the same pass, one bit per (item, capacity) cell.
+ *
+ * Results are cached with LRU eviction under (catalogue version, capacity), so
+ * replacing the catalogue makes old entries unreachable and they age out.
+ */
+public class KnapsackBatchService {
+
+    // Largest keep bitset (n * (W + 1) bits) the service will build; beyond it
+    // items are reconstructed per query with KnapsackRefinedDP.knapSackLinearSpace
+    static final long KEEP_MAX_BITS = 1L << 31;
+
+    // Largest table (1 GB of longs) the service will grow past the capacity asked for;
+    // beyond it the table is built exactly to the largest capacity queried
+    static final int GROWTH_MAX_CAPACITY = 1 << 27;
+
+    private int[] w;
+    private int[] p;
+    private long version;
+
+    private long[] P = new long[0]; // P[c] = best profit with weight at most c, for c < P.length
+    private long[] keep;            // Bit i * P.length + c set when item i improved capacity c, or null
+
+    private final LinkedHashMap<QueryKey, KnapsackResult> cache;
+
+    public KnapsackBatchService(int[] w, int[] p, int cacheCapacity) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("Cache capacity must be non-negative.");
+        }
+        // Access-ordered map that drops its least recently used entry once full
+        cache = new LinkedHashMap<QueryKey, KnapsackResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, KnapsackResult> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+        updateCatalogue(w, p);
+    }
+
+    // Replaces the item catalogue; the tables are rebuilt on the next query
+    public synchronized void updateCatalogue(int[] w, int[] p) {
+        if (w.length != p.length) {
+            throw new IllegalArgumentException("Weights and profits must have the same length.");
+        }
+        for (int i = 0; i < w.length; i++) {
+            if (w[i] < 0 || p[i] < 0) {
+                throw new IllegalArgumentException("Weights and profits must be non-negative (item " + (i + 1) + ")");
+            }
+        }
+        this.w = w.clone();
+        this.p = p.clone();
+        version++;
+        P = new long[0];
+        keep = null;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    // Builds the tables up to capacity maxW, with the keep bitset if reconstruct is set
+    public synchronized void prepare(int maxW, boolean reconstruct) {
+        if (maxW < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        // The table never shrinks: a width already built is only rebuilt to add the keep
+        // bitset, and once built the bitset is carried along when the table grows
+        if (maxW < P.length) {
+            if (reconstruct && keep == null && keepFits(P.length - 1)) {
+                build(P.length - 1, true);
+            }
+            return;
+        }
+        boolean wantKeep = reconstruct || keep != null;
+        // Grow geometrically so a rising sequence of single queries rebuilds only O(log W) times
+        int capacity = maxW;
+        if (2L * (P.length - 1) > maxW && 2L * (P.length - 1) <= GROWTH_MAX_CAPACITY) {
+            capacity = 2 * (P.length - 1);
+        }
+        if (wantKeep && !keepFits(capacity) && keepFits(maxW)) {
+            capacity = maxW;
+        }
+        build(capacity, wantKeep && keepFits(capacity));
+    }
+
+    public KnapsackResult query(int W) {
+        return query(W, false);
+    }
+
+    // Best profit for capacity W, with the chosen items if reconstruct is set
+    public synchronized KnapsackResult query(int W, boolean reconstruct) {
+        QueryKey key = new QueryKey(version, W, reconstruct);
+        KnapsackResult cached = cache.get(key);
+        if (cached != null) {
+            return copy(cached);
+        }
+
+        prepare(W, reconstruct);
+        KnapsackResult result;
+        if (!reconstruct) {
+            result = new KnapsackResult(P[W], new int[0]);
+        } else if (keep != null) {
+            result = new KnapsackResult(P[W], backtrack(W));
+        } else {
+            result = KnapsackRefinedDP.knapSackLinearSpace(w, p, w.length, W);
+        }
+        cache.put(key, result);
+        return copy(result);
+    }
+
+    // Callers get their own items array, so none of them can change a cached result
+    private static KnapsackResult copy(KnapsackResult result) {
+        return new KnapsackResult(result.maxProfit, result.items.clone(), result.statesExplored, result.statesPruned);
+    }
+
+    // Answers a batch of capacities from one DP pass up to the largest of them
+    public synchronized KnapsackResult[] queryAll(int[] capacities, boolean reconstruct) {
+        int maxW = 0;
+        for (int W : capacities) {
+            maxW = Math.max(maxW, W);
+        }
+        prepare(maxW, reconstruct);
+        KnapsackResult[] results = new KnapsackResult[capacities.length];
+        for (int q = 0; q < capacities.length; q++) {
+            results[q] = query(capacities[q], reconstruct);
+        }
+        return results;
+    }
+
+    private boolean keepFits(int W) {
+        return (long) w.length * (W + 1) <= KEEP_MAX_BITS;
+    }
+
+    private void build(int W, boolean withKeep) {
+        int n = w.length;
+        int width = W + 1;
+        long[] table = new long[width];
+        long[] bits = withKeep ? new long[(int) (((long) n * width + 63) >>> 6)] : null;
+
+        for (int i = 0; i < n; i++) {
+            long base = (long) i * width;
+            // Traverse weights from W to w[i] to avoid overwriting needed values
+            for (int wgt = W; wgt >= w[i]; wgt--) {
+                if (p[i] + table[wgt - w[i]] > table[wgt]) {
+                    table[wgt] = p[i] + table[wgt - w[i]];
+                    if (bits != null) {
+                        long bit = base + wgt;
+                        bits[(int) (bit >>> 6)] |= 1L << bit;
+                    }
+                }
+            }
+        }
+        P = table;
+        keep = bits;
+    }
+
+    // Backtracking to find the items included; keep bits for capacities up to W do not
+    // depend on how far past W the table was built
+    private int[] backtrack(int W) {
+        int width = P.length;
+        int[] taken = new int[w.length];
+        int count = 0;
+        int K = W;
+        for (int i = w.length - 1; i >= 0; i--) {
+            long bit = (long) i * width + K;
+            if ((keep[(int) (bit >>> 6)] & (1L << bit)) != 0) {
+                taken[count++] = i + 1; // Item numbers are 1-based
+                K -= w[i];
+            }
+        }
+        int[] items = new int[count];
+        for (int k = 0; k < count; k++) {
+            items[k] = taken[count - 1 - k];
+        }
+        return items;
+    }
+
+    static final class QueryKey {
+        private final long version;
+        private final int capacity;
+        private final boolean reconstruct;
+
+        QueryKey(long version, int capacity, boolean reconstruct) {
+            this.version = version;
+            this.capacity = capacity;
+            this.reconstruct = reconstruct;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return version == other.version && capacity == other.capacity && reconstruct == other.reconstruct;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(version, capacity, reconstruct);
+        }
+    }
+
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+
+        // Input the item catalogue
+        System.out.print("Enter number of items (n): ");
+        int n = scanner.nextInt();
+
+        int[] w = new int[n]; // Weights
+        int[] p = new int[n]; // Profits
+
+        System.out.println("Enter weights of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Weight of item " + (i + 1) + ": ");
+            w[i] = scanner.nextInt();
+        }
+
+        System.out.println("Enter profits of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Profit of item " + (i + 1) + ": ");
+            p[i] = scanner.nextInt();
+        }
+
+        // Input the capacities to query
+        System.out.print("Enter number of queries: ");
+        int q = scanner.nextInt();
+        int[] capacities = new int[q];
+        System.out.println("Enter capacities:");
+        for (int k = 0; k < q; k++) {
+            capacities[k] = scanner.nextInt();
+        }
+
+        KnapsackBatchService service = new KnapsackBatchService(w, p, 1024);
+        KnapsackResult[] results = service.queryAll(capacities, true);
+        for (int k = 0; k < q; k++) {
+            System.out.println("\nCapacity " + capacities[k] + ":");
+            System.out.println(results[k]);
+        }
+
+        scanner.close();
+    }
+}
@@ -0,0 +1,249 @@
+import java.util.*;
+
+/**
+ * Best-first branch-and-bound for the 0/1 knapsack problem. Its cost depends on
+ * how well the bound prunes rather than on W, so it suits instances with a huge
+ * capacity and small-to-moderate n, where the DP tables cannot be built.
+ *
+ * Items are sorted by profit/weight ratio. A node fixes the first level items of
+ * that order; its upper bound is the greedy fractional solution of the rest,
+ * found by binary search over prefix sums of the sorted weights and profits.
+ * Live nodes wait in a binary max-heap over primitive arrays, keyed by bound.
+ */
+public class KnapsackBranchAndBound {
+
+    public static KnapsackResult knapSack(int[] w, int[] p, int n, long W) {
+        if (W < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        // Items with no profit never help; the rest are sorted by decreasing ratio
+        Integer[] boxed = new Integer[n];
+        int m = 0;
+        for (int i = 0; i < n; i++) {
+            if (w[i] < 0 || p[i] < 0) {
+                throw new IllegalArgumentException("Weights and profits must be non-negative (item " + (i + 1) + ")");
+            }
+            if (p[i] > 0) {
+                boxed[m++] = i;
+            }
+        }
+        // p[a] / w[a] > p[b] / w[b] compared without division; zero weights sort first
+        Arrays.sort(boxed, 0, m, (a, b) -> Long.compare((long) p[b] * w[a], (long) p[a] * w[b]));
+
+        int[] order = new int[m];
+        long[] prefixWeight = new long[m + 1];
+        long[] prefixProfit = new long[m + 1];
+        for (int k = 0; k < m; k++) {
+            order[k] = boxed[k];
+            prefixWeight[k + 1] = prefixWeight[k] + w[order[k]];
+            prefixProfit[k + 1] = prefixProfit[k] + p[order[k]];
+        }
+
+        NodeStore nodes = new NodeStore();
+        int root = nodes.add(0, 0, 0, -1, -1);
+        nodes.bound[root] = bound(w, p, order, prefixWeight, prefixProfit, 0, 0, 0, W);
+
+        long best = 0;
+        int bestNode = root;
+        long expanded = 0;
+        long pruned = 0;
+
+        NodeHeap heap = new NodeHeap(nodes);
+        heap.push(root);
+        while (heap.size > 0) {
+            int x = heap.pop();
+            if (nodes.bound[x] <= best) {
+                // Every node left has a bound no larger than this one
+                pruned += heap.size + 1;
+                break;
+            }
+            int level = nodes.level[x];
+            if (level == m) {
+                continue;
+            }
+            expanded++;
+
+            int item = order[level];
+            long weight = nodes.weight[x];
+            long profit = nodes.profit[x];
+
+            // Child that takes the item
+            if (weight + w[item] <= W) {
+                int child = nodes.add(level + 1, weight + w[item], profit + p[item], x, item);
+                if (profit + p[item] > best) {
+                    best = profit + p[item];
+                    bestNode = child;
+                }
+                nodes.bound[child] = bound(w, p, order, prefixWeight, prefixProfit, level + 1,
+                        weight + w[item], profit + p[item], W);
+                if (nodes.bound[child] > best) {
+                    heap.push(child);
+                } else {
+                    pruned++;
+                }
+            } else {
+                pruned++;
+            }
+
+            // Child that leaves it out
+            int child = nodes.add(level + 1, weight, profit, x, -1);
+            nodes.bound[child] = bound(w, p, order, prefixWeight, prefixProfit, level + 1, weight, profit, W);
+            if (nodes.bound[child] > best) {
+                heap.push(child);
+            } else {
+                pruned++;
+            }
+        }
+
+        // Backtracking to find the items included
+        int[] taken = new int[m];
+        int count = 0;
+        for (int x = bestNode; x != -1; x = nodes.parent[x]) {
+            if (nodes.item[x] != -1) {
+                taken[count++] = nodes.item[x] + 1; // Item numbers are 1-based
+            }
+        }
+        int[] items = Arrays.copyOf(taken, count);
+        Arrays.sort(items);
+        return new KnapsackResult(best, items, expanded, pruned);
+    }
+
+    // Greedy fractional bound for a node that has fixed the first level sorted items:
+    // take whole items in ratio order while they fit, then a fraction of the next one.
+    // Profits are integers, so the bound is rounded down.
+    private static long bound(int[] w, int[] p, int[] order, long[] prefixWeight, long[] prefixProfit,
+                              int level, long weight, long profit, long W) {
+        long room = W - weight;
+        // Largest j with prefixWeight[j] - prefixWeight[level] <= room
+        int lo = level, hi = order.length;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (prefixWeight[mid] - prefixWeight[level] <= room) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long result = profit + prefixProfit[lo] - prefixProfit[level];
+        if (lo < order.length) {
+            int next = order[lo];
+            long left = room - (prefixWeight[lo] - prefixWeight[level]);
+            // The next item does not fit, so left < w[next] and the product stays below
+            // 2^62; integer division floors it exactly, where a double would lose bits
+            result += left * p[next] / w[next];
+        }
+        return result;
+    }
+
+    // Nodes of the search tree as parallel primitive arrays; a node is its index
+    static class NodeStore {
+        int[] level = new int[1024];
+        long[] weight = new long[1024];
+        long[] profit = new long[1024];
+        long[] bound = new long[1024];
+        int[] parent = new int[1024];
+        int[] item = new int[1024]; // Original index of the item taken on the edge from parent, or -1
+        int size;
+
+        int add(int lvl, long wgt, long prof, int par, int it) {
+            if (size == level.length) {
+                int capacity = 2 * size;
+                level = Arrays.copyOf(level, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+                profit = Arrays.copyOf(profit, capacity);
+                bound = Arrays.copyOf(bound, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                item = Arrays.copyOf(item, capacity);
+            }
+            level[size] = lvl;
+            weight[size] = wgt;
+            profit[size] = prof;
+            parent[size] = par;
+            item[size] = it;
+            return size++;
+        }
+    }
+
+    // Binary max-heap of node indices ordered by bound
+    static class NodeHeap {
+        private final NodeStore nodes;
+        private int[] heap = new int[1024];
+        int size;
+
+        NodeHeap(NodeStore nodes) {
+            this.nodes = nodes;
+        }
+
+        void push(int x) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, 2 * size);
+            }
+            long key = nodes.bound[x];
+            int i = size++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (nodes.bound[heap[up]] >= key) {
+                    break;
+                }
+                heap[i] = heap[up];
+                i = up;
+            }
+            heap[i] = x;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int x = heap[--size];
+            long key = nodes.bound[x];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && nodes.bound[heap[child + 1]] > nodes.bound[heap[child]]) {
+                    child++;
+                }
+                if (nodes.bound[heap[child]] <= key) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = x;
+            return top;
+        }
+    }
+
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+
+        // Input number of items and capacity of knapsack
+        System.out.print("Enter number of items (n): ");
+        int n = scanner.nextInt();
+
+        System.out.print("Enter capacity of knapsack (W): ");
+        long W = scanner.nextLong();
+
+        int[] w = new int[n]; // Weights
+        int[] p = new int[n]; // Profits
+
+        // Input weights and profits
+        System.out.println("Enter weights of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Weight of item " + (i + 1) + ": ");
+            w[i] = scanner.nextInt();
+        }
+
+        System.out.println("Enter profits of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Profit of item " + (i + 1) + ": ");
+            p[i] = scanner.nextInt();
+        }
+
+        // Solve the knapsack problem
+        System.out.println(knapSack(w, p, n, W));
+
+        scanner.close();
+    }
+}
@@ -1,4 +1,5 @@
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class KnapsackRefinedDP {
 
@@ -26,6 +27,51 @@ public class KnapsackRefinedDP {
             }
         }
 
+        printSolution(P[W], keep, w, n, W);
+    }
+
+    // Parallel method: the in-place update hides the row structure, so two rows are double
+    // buffered. Each item then reads only the previous row and its capacities are split
+    // into chunks filled concurrently, using KnapsackStandardDP's row kernel. The keep table
+    // is a bitset, one bit per (item, capacity). Output matches knapSack.
+    public static void knapSackParallel(int[] w, int[] p, int n, int W) {
+        knapSackParallel(w, p, n, W, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void knapSackParallel(int[] w, int[] p, int n, int W, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (parallelism == 1) {
+            knapSackParallel(w, p, n, W, null);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            knapSackParallel(w, p, n, W, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Runs on the given pool so batch jobs can reuse one pool across calls;
+    // a null pool fills every row on the calling thread
+    public static void knapSackParallel(int[] w, int[] p, int n, int W, ForkJoinPool pool) {
+        int[] previous = new int[W + 1];
+        int[] current = new int[W + 1];
+        long[][] keep = new long[n][(W >>> 6) + 1];
+
+        for (int i = 0; i < n; i++) {
+            KnapsackStandardDP.runRow(previous, current, keep[i], w[i], p[i], W + 1, pool);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        printSolution(previous[W], keep, w, n, W);
+    }
+
+    private static void printSolution(int maxProfit, int[][] keep, int[] w, int n, int W) {
         // Backtracking to find the items included
         int K = W;
         List<Integer> items = new ArrayList<>();
@@ -37,8 +83,28 @@ public class KnapsackRefinedDP {
             }
         }
 
+        printItems(maxProfit, items);
+    }
+
+    // Same as above for a keep bitset
+    private static void printSolution(int maxProfit, long[][] keep, int[] w, int n, int W) {
+        int K = W;
+        List<Integer> items = new ArrayList<>();
+
+        for (int i = n - 1; i >= 0; i--) {
+            if ((keep[i][K >>> 6] & (1L << K)) != 0) {
+                items.add(i + 1); // Item numbers are 1-based
+                K -= w[i];
+            }
+        }
+
+        printItems(maxProfit, items);
+    }
+
+    // Items were collected last to first
+    private static void printItems(int maxProfit, List<Integer> items) {
         // Printing the results
-        System.out.println("Maximum Profit: " + P[W]);
+        System.out.println("Maximum Profit: " + maxProfit);
         System.out.print("Items included (item numbers): ");
         for (int i = items.size() - 1; i >= 0; i--) {
             System.out.print(items.get(i) + " ");
@@ -46,6 +112,78 @@ public class KnapsackRefinedDP {
         System.out.println();
     }
 
+    // Linear-space variant: reconstructs the chosen items in O(n + W) memory instead of
+    // keeping an n x (W + 1) keep table. Items are split in half; one 1D pass over each
+    // half gives the best profit of that half for every capacity, the capacity is split
+    // where the two halves together do best, and each half is solved recursively.
+    public static KnapsackResult knapSackLinearSpace(int[] w, int[] p, int n, int W) {
+        long[] front = new long[W + 1];
+        long[] back = new long[W + 1];
+        boolean[] chosen = new boolean[n];
+        long cells = linearSpaceSolve(w, p, 0, n, W, front, back, chosen);
+
+        long maxProfit = 0;
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (chosen[i]) {
+                maxProfit += p[i];
+                count++;
+            }
+        }
+        int[] items = new int[count];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (chosen[i]) {
+                items[k++] = i + 1; // Item numbers are 1-based
+            }
+        }
+        return new KnapsackResult(maxProfit, items, cells, 0);
+    }
+
+    // Marks an optimal choice among items lo..hi-1 for capacity W; returns the DP cells evaluated
+    private static long linearSpaceSolve(int[] w, int[] p, int lo, int hi, int W,
+                                         long[] front, long[] back, boolean[] chosen) {
+        if (hi - lo == 1) {
+            chosen[lo] = w[lo] <= W && p[lo] > 0;
+            return 1;
+        }
+        if (hi - lo == 0) {
+            return 0;
+        }
+
+        int mid = (lo + hi) / 2;
+        profitsByCapacity(w, p, lo, mid, W, front);
+        profitsByCapacity(w, p, mid, hi, W, back);
+
+        // Capacity given to the first half
+        int split = 0;
+        long best = -1;
+        for (int c = 0; c <= W; c++) {
+            if (front[c] + back[W - c] > best) {
+                best = front[c] + back[W - c];
+                split = c;
+            }
+        }
+
+        // front and back are free again, so both recursive calls reuse them
+        long cells = (long) (hi - lo) * (W + 1);
+        cells += linearSpaceSolve(w, p, lo, mid, split, front, back, chosen);
+        cells += linearSpaceSolve(w, p, mid, hi, W - split, front, back, chosen);
+        return cells;
+    }
+
+    // P[c] = best profit of items lo..hi-1 with weight at most c, for c = 0..W
+    private static void profitsByCapacity(int[] w, int[] p, int lo, int hi, int W, long[] P) {
+        Arrays.fill(P, 0, W + 1, 0);
+        for (int i = lo; i < hi; i++) {
+            // Traverse weights from W to w[i] to avoid overwriting needed values
+            for (int wgt = W; wgt >= w[i]; wgt--) {
+                if (p[i] + P[wgt - w[i]] > P[wgt]) {
+                    P[wgt] = p[i] + P[wgt - w[i]];
+                }
+            }
+        }
+    }
+
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
 
@@ -75,6 +213,10 @@ public class KnapsackRefinedDP {
         // Solve the knapsack problem
         knapSack(w, p, n, W);
 
+        // Solve again, reconstructing the items in linear space
+        System.out.println("\nLinear-space reconstruction:");
+        System.out.println(knapSackLinearSpace(w, p, n, W));
+
         scanner.close();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+/**
+ * Result of a 0/1 knapsack solve, shared by the knapsack engines: the
+ * maximum profit, the items that achieve it, and how much search it took.
+ * A state is a DP cell, a Pareto point or a branch-and-bound node, so the
+ * counts compare the work of different engines on the same instance.
+ */
+public class KnapsackResult {
+    public final long maxProfit;   // Maximum total profit
+    public final int[] items;      // Chosen item numbers (1-based), in increasing order
+    public final long statesExplored; // States evaluated or expanded
+    public final long statesPruned;   // States discarded as dominated or bounded out
+
+    public KnapsackResult(long maxProfit, int[] items) {
+        this(maxProfit, items, 0, 0);
+    }
+
+    public KnapsackResult(long maxProfit, int[] items, long statesExplored, long statesPruned) {
+        this.maxProfit = maxProfit;
+        this.items = items;
+        this.statesExplored = statesExplored;
+        this.statesPruned = statesPruned;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Maximum Profit: ").append(maxProfit).append("\nItems included (item numbers): ");
+        for (int item : items) {
+            sb.append(item).append(' ');
+        }
+        sb.append("\nStates explored: ").append(statesExplored).append(", pruned: ").append(statesPruned);
+        return sb.toString();
+    }
+}
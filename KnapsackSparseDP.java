@@ -0,0 +1,255 @@
+import java.util.*;
+
+/**
+ * 0/1 knapsack engines whose cost does not depend on the capacity W, for
+ * instances where W is far too large for KnapsackStandardDP or KnapsackRefinedDP.
+ *
+ * <ul>
+ *   <li>knapSackByProfit: DP over total profit, O(n * sum(p)) time.</li>
+ *   <li>knapSackPareto: sparse list of non-dominated (weight, profit) points,
+ *       O(n * points) time, where points never exceeds min(2^n, sum(p) + 1, W + 1).</li>
+ *   <li>knapSack: picks whichever of the two (or the dense capacity DP) looks cheaper.</li>
+ * </ul>
+ */
+public class KnapsackSparseDP {
+
+    // Largest profit-indexed table (cells = n * (sum(p) + 1)) the chooser will build
+    static final long PROFIT_DP_MAX_CELLS = 1L << 28;
+
+    // Largest capacity-indexed work (n * (W + 1)) for which the chooser uses the dense DP
+    static final long CAPACITY_DP_MAX_CELLS = 1L << 28;
+
+    // Largest memory, in bytes, of the dense DP's two long[W + 1] rows, which it allocates
+    // whatever n is
+    static final long CAPACITY_DP_MAX_BYTES = 1L << 28;
+
+    // Method 1: DP over profit. minWeight[v] is the least weight that reaches profit exactly v.
+    public static KnapsackResult knapSackByProfit(int[] w, int[] p, int n, long W) {
+        checkItems(w, p, n, W);
+        long totalProfit = 0;
+        for (int i = 0; i < n; i++) {
+            totalProfit += p[i];
+        }
+        if (totalProfit >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Total profit " + totalProfit + " is too large for the profit-indexed DP");
+        }
+        int V = (int) totalProfit;
+
+        long[] minWeight = new long[V + 1];
+        Arrays.fill(minWeight, Long.MAX_VALUE);
+        minWeight[0] = 0;
+
+        // keep bit (i, v): item i was used in the best way of reaching profit v among items 0..i
+        long[][] keep = new long[n][];
+        long cells = 0;
+        for (int i = 0; i < n; i++) {
+            keep[i] = new long[(V >>> 6) + 1];
+            if (p[i] == 0) {
+                continue; // Never improves on leaving the item out
+            }
+            cells += V - p[i] + 1;
+            // Traverse profits from V to p[i] to avoid overwriting needed values
+            for (int v = V; v >= p[i]; v--) {
+                long base = minWeight[v - p[i]];
+                if (base != Long.MAX_VALUE && base + w[i] < minWeight[v]) {
+                    minWeight[v] = base + w[i];
+                    keep[i][v >>> 6] |= 1L << v;
+                }
+            }
+        }
+
+        // Best profit is the largest one reachable within the capacity
+        int best = V;
+        while (minWeight[best] > W) {
+            best--;
+        }
+
+        // Backtracking to find the items included
+        int[] taken = new int[n];
+        int count = 0;
+        for (int i = n - 1, v = best; i >= 0; i--) {
+            if ((keep[i][v >>> 6] & (1L << v)) != 0) {
+                taken[count++] = i + 1;
+                v -= p[i];
+            }
+        }
+        return new KnapsackResult(best, reversed(taken, count), cells, 0);
+    }
+
+    // Method 2: sparse Pareto front. After each item the front holds every (weight, profit)
+    // point that no other subset beats on both counts, sorted by weight with strictly
+    // increasing profit. Adding an item merges the front with a shifted copy of itself.
+    public static KnapsackResult knapSackPareto(int[] w, int[] p, int n, long W) {
+        checkItems(w, p, n, W);
+
+        // Reconstruction arena: every point created by taking an item gets a node recording
+        // the item and the node of the point it extends. Node 0 is the empty selection.
+        int[] parent = new int[64];
+        int[] item = new int[64];
+        int nodes = 1;
+
+        long[] weights = new long[16];
+        long[] profits = new long[16];
+        int[] node = new int[16];
+        int size = 1; // The front starts as the single point (0, 0)
+
+        long[] nextWeights = new long[16];
+        long[] nextProfits = new long[16];
+        int[] nextNode = new int[16];
+        long considered = 0;
+        long dominated = 0;
+
+        for (int k = 0; k < n; k++) {
+            if (w[k] > W || p[k] == 0) {
+                continue; // Never part of an improving selection
+            }
+            if (nextWeights.length < 2 * size) {
+                nextWeights = new long[2 * size];
+                nextProfits = new long[2 * size];
+                nextNode = new int[2 * size];
+            }
+
+            // Merge the front with the front shifted by (w[k], p[k]), keeping only
+            // points whose profit beats every lighter point already kept
+            int i = 0, j = 0, next = 0;
+            long lastProfit = -1;
+            int shiftedEnd = size;
+            while (i < size || j < shiftedEnd) {
+                long sw = j < shiftedEnd ? weights[j] + w[k] : Long.MAX_VALUE;
+                if (j < shiftedEnd && sw > W) {
+                    shiftedEnd = j; // Weights only grow from here on
+                    continue;
+                }
+                long sp = j < shiftedEnd ? profits[j] + p[k] : -1;
+                if (j >= shiftedEnd || (i < size && (weights[i] < sw || (weights[i] == sw && profits[i] >= sp)))) {
+                    if (profits[i] > lastProfit) {
+                        nextWeights[next] = weights[i];
+                        nextProfits[next] = profits[i];
+                        nextNode[next++] = node[i];
+                        lastProfit = profits[i];
+                    }
+                    i++;
+                } else {
+                    if (sp > lastProfit) {
+                        if (nodes == parent.length) {
+                            parent = Arrays.copyOf(parent, 2 * nodes);
+                            item = Arrays.copyOf(item, 2 * nodes);
+                        }
+                        parent[nodes] = node[j];
+                        item[nodes] = k;
+                        nextWeights[next] = sw;
+                        nextProfits[next] = sp;
+                        nextNode[next++] = nodes++;
+                        lastProfit = sp;
+                    }
+                    j++;
+                }
+            }
+
+            considered += size + shiftedEnd;
+            dominated += size + shiftedEnd - next;
+
+            // Swap fronts
+            long[] tw = weights; weights = nextWeights; nextWeights = tw;
+            long[] tp = profits; profits = nextProfits; nextProfits = tp;
+            int[] tn = node; node = nextNode; nextNode = tn;
+            size = next;
+        }
+
+        // The heaviest point of the front has the largest profit within W
+        int[] taken = new int[n];
+        int count = 0;
+        for (int x = node[size - 1]; x != 0; x = parent[x]) {
+            taken[count++] = item[x] + 1;
+        }
+        return new KnapsackResult(profits[size - 1], reversed(taken, count), considered, dominated);
+    }
+
+    // Method 3: picks the cheaper engine for the instance. The profit DP costs n * (sum(p) + 1)
+    // and the dense capacity DP n * (W + 1), and the Pareto front is bounded by both and by
+    // 2^n. The tables are only used while they fit their limits; the dense DP also needs
+    // 16 * (W + 1) bytes for its rows however few items there are.
+    public static KnapsackResult knapSack(int[] w, int[] p, int n, long W) {
+        checkItems(w, p, n, W);
+        long totalProfit = 0;
+        for (int i = 0; i < n; i++) {
+            totalProfit += p[i];
+        }
+        long profitCells = n * (totalProfit + 1);
+        long capacityCells = W < Integer.MAX_VALUE ? n * (W + 1) : Long.MAX_VALUE;
+        long points = Math.min(totalProfit + 1, W < Long.MAX_VALUE ? W + 1 : W);
+        if (n < 62) {
+            points = Math.min(points, 1L << n);
+        }
+        long paretoCells = n * points;
+
+        boolean profitFits = profitCells <= PROFIT_DP_MAX_CELLS;
+        boolean capacityFits = capacityCells <= CAPACITY_DP_MAX_CELLS && 16 * (W + 1) <= CAPACITY_DP_MAX_BYTES;
+        if (profitFits && profitCells <= paretoCells && (!capacityFits || profitCells <= capacityCells)) {
+            return knapSackByProfit(w, p, n, W);
+        }
+        if (capacityFits && capacityCells <= paretoCells) {
+            return KnapsackRefinedDP.knapSackLinearSpace(w, p, n, (int) W);
+        }
+        return knapSackPareto(w, p, n, W);
+    }
+
+    private static void checkItems(int[] w, int[] p, int n, long W) {
+        if (W < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        for (int i = 0; i < n; i++) {
+            if (w[i] < 0 || p[i] < 0) {
+                throw new IllegalArgumentException("Weights and profits must be non-negative (item " + (i + 1) + ")");
+            }
+        }
+    }
+
+    // First count entries of a, in reverse order (items were collected last to first)
+    private static int[] reversed(int[] a, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = a[count - 1 - i];
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        Scanner scanner = new Scanner(System.in);
+
+        // Input number of items and capacity of knapsack
+        System.out.print("Enter number of items (n): ");
+        int n = scanner.nextInt();
+
+        System.out.print("Enter capacity of knapsack (W): ");
+        long W = scanner.nextLong();
+
+        int[] w = new int[n]; // Weights
+        int[] p = new int[n]; // Profits
+
+        // Input weights and profits
+        System.out.println("Enter weights of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Weight of item " + (i + 1) + ": ");
+            w[i] = scanner.nextInt();
+        }
+
+        System.out.println("Enter profits of items:");
+        for (int i = 0; i < n; i++) {
+            System.out.print("Profit of item " + (i + 1) + ": ");
+            p[i] = scanner.nextInt();
+        }
+
+        // Solve the knapsack problem with each engine
+        System.out.println("\nMethod 1 (DP over profit):");
+        System.out.println(knapSackByProfit(w, p, n, W));
+
+        System.out.println("\nMethod 2 (Pareto front):");
+        System.out.println(knapSackPareto(w, p, n, W));
+
+        System.out.println("\nMethod 3 (engine chosen per instance):");
+        System.out.println(knapSack(w, p, n, W));
+
+        scanner.close();
+    }
+}
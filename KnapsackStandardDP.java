@@ -1,7 +1,12 @@
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class KnapsackStandardDP {
 
+    // Capacities filled by one task of the parallel row update
+    static final int ROW_CHUNK = 1 << 14;
+
     public static void knapSack(int[] w, int[] p, int n, int W) {
         int[][] P = new int[n + 1][W + 1];
         int[][] keep = new int[n + 1][W + 1];
@@ -24,6 +29,111 @@ public class KnapsackStandardDP {
             }
         }
 
+        printSolution(P[n][W], keep, w, n, W);
+    }
+
+    // Parallel method: every capacity in row i reads only row i - 1, so each row is split into
+    // chunks of capacities that are filled concurrently. Only two profit rows are kept and
+    // the keep table is a bitset, one bit per (item, capacity); output matches knapSack.
+    public static void knapSackParallel(int[] w, int[] p, int n, int W) {
+        knapSackParallel(w, p, n, W, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void knapSackParallel(int[] w, int[] p, int n, int W, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (parallelism == 1) {
+            knapSackParallel(w, p, n, W, null);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            knapSackParallel(w, p, n, W, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Runs on the given pool so batch jobs can reuse one pool across calls;
+    // a null pool fills every row on the calling thread
+    public static void knapSackParallel(int[] w, int[] p, int n, int W, ForkJoinPool pool) {
+        int[] previous = new int[W + 1];
+        int[] current = new int[W + 1];
+        long[][] keep = new long[n + 1][(W >>> 6) + 1];
+
+        for (int i = 1; i <= n; i++) {
+            runRow(previous, current, keep[i], w[i - 1], p[i - 1], W + 1, pool);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        printSolution(previous[W], keep, w, n, W);
+    }
+
+    // Fills capacities [from, to) of one row from the previous row, setting bit wgt of the
+    // zeroed keepRow where the item is taken. The loops have no loop-carried dependence
+    // on cur, so the JIT can unroll them.
+    static void updateRow(int[] prev, int[] cur, long[] keepRow, int wi, int pi, int from, int to) {
+        int split = Math.min(Math.max(from, wi), to);
+        // Item does not fit
+        for (int wgt = from; wgt < split; wgt++) {
+            cur[wgt] = prev[wgt];
+        }
+        for (int wgt = split; wgt < to; wgt++) {
+            int take = pi + prev[wgt - wi];
+            int skip = prev[wgt];
+            boolean taken = take > skip;
+            cur[wgt] = taken ? take : skip;
+            keepRow[wgt >>> 6] |= (taken ? 1L : 0L) << wgt;
+        }
+    }
+
+    // Fills capacities [0, width) of one row, forking chunks on the pool if there is one
+    static void runRow(int[] prev, int[] cur, long[] keepRow, int wi, int pi, int width, ForkJoinPool pool) {
+        if (pool == null || width <= ROW_CHUNK) {
+            updateRow(prev, cur, keepRow, wi, pi, 0, width);
+        } else {
+            pool.invoke(new RowUpdateTask(prev, cur, keepRow, wi, pi, 0, width));
+        }
+    }
+
+    static class RowUpdateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] prev;
+        private final int[] cur;
+        private final long[] keepRow;
+        private final int wi;
+        private final int pi;
+        private final int from;
+        private final int to;
+
+        RowUpdateTask(int[] prev, int[] cur, long[] keepRow, int wi, int pi, int from, int to) {
+            this.prev = prev;
+            this.cur = cur;
+            this.keepRow = keepRow;
+            this.wi = wi;
+            this.pi = pi;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROW_CHUNK) {
+                updateRow(prev, cur, keepRow, wi, pi, from, to);
+            } else {
+                // Split on a multiple of 64 so no two tasks write the same keep word
+                int mid = ((from + to) >>> 1) & ~63;
+                invokeAll(new RowUpdateTask(prev, cur, keepRow, wi, pi, from, mid),
+                          new RowUpdateTask(prev, cur, keepRow, wi, pi, mid, to));
+            }
+        }
+    }
+
+    private static void printSolution(int maxProfit, int[][] keep, int[] w, int n, int W) {
         // Backtracking to find the items included
         int K = W;
         List<Integer> items = new ArrayList<>();
@@ -35,8 +145,28 @@ public class KnapsackStandardDP {
             }
         }
 
+        printItems(maxProfit, items);
+    }
+
+    // Same as above for a keep bitset
+    private static void printSolution(int maxProfit, long[][] keep, int[] w, int n, int W) {
+        int K = W;
+        List<Integer> items = new ArrayList<>();
+
+        for (int i = n; i >= 1; i--) {
+            if ((keep[i][K >>> 6] & (1L << K)) != 0) {
+                items.add(i);
+                K -= w[i - 1];
+            }
+        }
+
+        printItems(maxProfit, items);
+    }
+
+    // Items were collected last to first
+    private static void printItems(int maxProfit, List<Integer> items) {
         // Printing the results
-        System.out.println("Maximum Profit: " + P[n][W]);
+        System.out.println("Maximum Profit: " + maxProfit);
         System.out.print("Items included (item numbers): ");
         for (int i = items.size() - 1; i >= 0; i--) {
             System.out.print(items.get(i) + " ");
@@ -1,4 +1,9 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class LCS {
 
@@ -12,6 +17,133 @@ public class LCS {
             return Math.max(lcsDivideAndConquer(X, Y, m - 1, n), lcsDivideAndConquer(X, Y, m, n - 1));
     }
 
+    // Method 1b: Divide and Conquer with Memoization. Same recurrence as Method 1, but
+    // every (m, n) subproblem is solved once and the recursion runs on an explicit
+    // stack, so long inputs cannot overflow the JVM stack.
+    public static int lcsMemoized(String X, String Y) {
+        int m = X.length();
+        int n = Y.length();
+        long cells = (long) (m + 1) * (n + 1);
+        if (cells > MEMO_MAX_CELLS)
+            throw new IllegalArgumentException("Inputs too long to memoize; use lcsHirschberg or lcsBitParallel.");
+        // The LCS is at most min(m, n), so the narrowest entry type that holds it is used
+        int bound = Math.min(m, n);
+        Memo memo = bound <= Byte.MAX_VALUE ? new ByteMemo((int) cells)
+                : bound <= Short.MAX_VALUE ? new ShortMemo((int) cells)
+                : new IntMemo((int) cells);
+
+        // Each frame is a subproblem (i, j) packed as i * (n + 1) + j
+        long[] stack = new long[64];
+        int top = 0;
+        stack[top++] = (long) m * (n + 1) + n;
+
+        while (top > 0) {
+            long key = stack[top - 1];
+            int i = (int) (key / (n + 1));
+            int j = (int) (key % (n + 1));
+            if (i == 0 || j == 0 || memo.get(key) >= 0) {
+                top--;
+                continue;
+            }
+
+            if (stack.length < top + 2)
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            if (X.charAt(i - 1) == Y.charAt(j - 1)) {
+                long diagonal = key - (n + 1) - 1;
+                int value = memoValue(memo, diagonal, i - 1, j - 1);
+                if (value >= 0) {
+                    memo.put(key, value + 1);
+                    top--;
+                } else {
+                    stack[top++] = diagonal;
+                }
+            } else {
+                long up = key - (n + 1);
+                long left = key - 1;
+                int upValue = memoValue(memo, up, i - 1, j);
+                int leftValue = memoValue(memo, left, i, j - 1);
+                if (upValue >= 0 && leftValue >= 0) {
+                    memo.put(key, Math.max(upValue, leftValue));
+                    top--;
+                } else {
+                    if (upValue < 0)
+                        stack[top++] = up;
+                    if (leftValue < 0)
+                        stack[top++] = left;
+                }
+            }
+        }
+
+        return memoValue(memo, (long) m * (n + 1) + n, m, n);
+    }
+
+    // Subproblems on row 0 or column 0 are 0 and never stored
+    private static int memoValue(Memo memo, long key, int i, int j) {
+        return (i == 0 || j == 0) ? 0 : memo.get(key);
+    }
+
+    // Largest table a Java array can hold
+    private static final long MEMO_MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    // Dense memo of LCS lengths by subproblem key; get returns -1 for unsolved subproblems.
+    // Every subproblem reachable from (m, n) may be visited, so the table covers them all.
+    interface Memo {
+        int get(long key);
+
+        void put(long key, int value);
+    }
+
+    static class ByteMemo implements Memo {
+        private final byte[] table;
+
+        ByteMemo(int cells) {
+            table = new byte[cells];
+            Arrays.fill(table, (byte) -1);
+        }
+
+        public int get(long key) {
+            return table[(int) key];
+        }
+
+        public void put(long key, int value) {
+            table[(int) key] = (byte) value;
+        }
+    }
+
+    static class ShortMemo implements Memo {
+        private final short[] table;
+
+        ShortMemo(int cells) {
+            table = new short[cells];
+            Arrays.fill(table, (short) -1);
+        }
+
+        public int get(long key) {
+            return table[(int) key];
+        }
+
+        public void put(long key, int value) {
+            table[(int) key] = (short) value;
+        }
+    }
+
+    static class IntMemo implements Memo {
+        private final int[] table;
+
+        IntMemo(int cells) {
+            table = new int[cells];
+            Arrays.fill(table, -1);
+        }
+
+        public int get(long key) {
+            return table[(int) key];
+        }
+
+        public void put(long key, int value) {
+            table[(int) key] = value;
+        }
+    }
+
     // Method 2: Dynamic Programming Algorithm (Using C and B arrays)
     public static void lcsDynamicProgramming(String X, String Y) {
         int m = X.length();
@@ -54,11 +186,24 @@ public class LCS {
 
     // Method 3: Dynamic Programming with 2 1D Arrays
     public static void lcsDynamicProgrammingOptimized(String X, String Y) {
-        int m = X.length();
         int n = Y.length();
+        int[] current = lcsLastRow(X.toCharArray(), 0, X.length(), Y.toCharArray(), 0, n, false,
+                new int[n + 1], new int[n + 1]);
 
-        int[] previous = new int[n + 1];
-        int[] current = new int[n + 1];
+        System.out.println("\nDynamic Programming with 2 1D Arrays:");
+        System.out.println("Length of LCS is " + current[n]);
+    }
+
+    // Two-row kernel of Method 3: returns the last row of the LCS table for
+    // X[xStart..xEnd) and Y[yStart..yEnd), using previous and current as the two rows.
+    // With reverse set both ranges are scanned back to front, so entry j of the
+    // result is the LCS length of X[xStart..xEnd) and the last j characters of the Y range.
+    static int[] lcsLastRow(char[] X, int xStart, int xEnd, char[] Y, int yStart, int yEnd,
+                            boolean reverse, int[] previous, int[] current) {
+        int m = xEnd - xStart;
+        int n = yEnd - yStart;
+        Arrays.fill(previous, 0, n + 1, 0);
+        Arrays.fill(current, 0, n + 1, 0);
 
         // Build the current and previous arrays
         for (int i = 1; i <= m; i++) {
@@ -67,44 +212,274 @@ public class LCS {
             previous = current;
             current = temp;
 
+            char x = reverse ? X[xEnd - i] : X[xStart + i - 1];
             for (int j = 1; j <= n; j++) {
-                if (X.charAt(i - 1) == Y.charAt(j - 1))
+                char y = reverse ? Y[yEnd - j] : Y[yStart + j - 1];
+                if (x == y)
                     current[j] = previous[j - 1] + 1;
                 else
                     current[j] = Math.max(previous[j], current[j - 1]);
             }
         }
+        return current;
+    }
 
-        System.out.println("\nDynamic Programming with 2 1D Arrays:");
-        System.out.println("Length of LCS is " + current[n]);
+    // Method 4: Hirschberg's Algorithm (recovers the LCS itself in linear space)
+    public static String lcsHirschberg(String X, String Y) {
+        char[] x = X.toCharArray();
+        char[] y = Y.toCharArray();
+        int n = y.length;
+        int[][] rows = new int[4][n + 1]; // Two rows for each direction, reused at every level
+        StringBuilder lcs = new StringBuilder();
+        hirschberg(x, 0, x.length, y, 0, n, rows, lcs);
+        return lcs.toString();
     }
 
-    // Print_LCS(b[][], X, i, j)
-    public static void printLCS(char[][] B, String X, int i, int j) {
-        if (i == 0 || j == 0)
+    // Appends an LCS of X[xStart..xEnd) and Y[yStart..yEnd) to lcs. Splits X in half,
+    // finds where an optimal alignment crosses the split from a forward pass over the
+    // top half and a backward pass over the bottom half, and recurses on both parts.
+    // The recursion depth is O(log m) since X is halved at every level.
+    private static void hirschberg(char[] X, int xStart, int xEnd, char[] Y, int yStart, int yEnd,
+                                   int[][] rows, StringBuilder lcs) {
+        if (xEnd - xStart == 0 || yEnd - yStart == 0)
+            return;
+        if (xEnd - xStart == 1) {
+            for (int j = yStart; j < yEnd; j++) {
+                if (Y[j] == X[xStart]) {
+                    lcs.append(X[xStart]);
+                    break;
+                }
+            }
             return;
-        if (B[i][j] == '↖') {
-            printLCS(B, X, i - 1, j - 1);
-            System.out.print(X.charAt(i - 1));
-        } else if (B[i][j] == '↑') {
-            printLCS(B, X, i - 1, j);
-        } else {
-            printLCS(B, X, i, j - 1);
         }
+
+        int mid = (xStart + xEnd) / 2;
+        int n = yEnd - yStart;
+        int[] forward = lcsLastRow(X, xStart, mid, Y, yStart, yEnd, false, rows[0], rows[1]);
+        int[] backward = lcsLastRow(X, mid, xEnd, Y, yStart, yEnd, true, rows[2], rows[3]);
+
+        // Split Y where the two halves together give the longest LCS
+        int split = 0;
+        int best = -1;
+        for (int k = 0; k <= n; k++) {
+            int length = forward[k] + backward[n - k];
+            if (length > best) {
+                best = length;
+                split = k;
+            }
+        }
+
+        hirschberg(X, xStart, mid, Y, yStart, yStart + split, rows, lcs);
+        hirschberg(X, mid, xEnd, Y, yStart + split, yEnd, rows, lcs);
     }
 
-    // Print_LCS1(c[][], X, Y, i, j)
+    // Method 5: Bit-parallel LCS length (Allison-Dix / Hyyro), 64 columns per long word
+    public static int lcsBitParallel(String X, String Y) {
+        return new BitParallelMatcher(Y).lcsLength(X);
+    }
+
+    // Match masks of one string, built once and reused to score it against many others.
+    // Row r of masks has bit j set where Y[j] is the character with index r; the
+    // characters of Y are mapped to rows through a table indexed by char.
+    public static class BitParallelMatcher {
+        private final int n;         // Length of Y
+        private final int words;     // Number of 64-bit words per mask
+        private final int[] row;     // Row of each character in masks, or -1 if absent from Y
+        private final long[] masks;  // Flattened masks, one row of words per distinct character
+
+        public BitParallelMatcher(String Y) {
+            n = Y.length();
+            words = (n + 63) >>> 6;
+
+            char maxChar = 0;
+            for (int j = 0; j < n; j++)
+                maxChar = (char) Math.max(maxChar, Y.charAt(j));
+            row = new int[maxChar + 1];
+            Arrays.fill(row, -1);
+            int distinct = 0;
+            for (int j = 0; j < n; j++) {
+                if (row[Y.charAt(j)] < 0)
+                    row[Y.charAt(j)] = distinct++;
+            }
+
+            masks = new long[distinct * words];
+            for (int j = 0; j < n; j++)
+                masks[row[Y.charAt(j)] * words + (j >>> 6)] |= 1L << j;
+        }
+
+        public int lcsLength(String X) {
+            return lcsLength(X, new long[words]);
+        }
+
+        // Scores every candidate against Y, reusing one bit vector for all of them
+        public int[] lcsLengths(List<String> candidates) {
+            long[] V = new long[words];
+            int[] lengths = new int[candidates.size()];
+            for (int c = 0; c < lengths.length; c++)
+                lengths[c] = lcsLength(candidates.get(c), V);
+            return lengths;
+        }
+
+        // V holds a 0 bit at each column of the current LCS row where the row value steps up,
+        // so the LCS length is the number of 0 bits. Each character of X updates V as
+        // V = (V + (V & M)) | (V & ~M), with the addition carried across words.
+        private int lcsLength(String X, long[] V) {
+            Arrays.fill(V, -1L);
+            for (int i = 0; i < X.length(); i++) {
+                char x = X.charAt(i);
+                if (x >= row.length || row[x] < 0)
+                    continue; // No matches: V is unchanged
+                int base = row[x] * words;
+                long carry = 0;
+                for (int w = 0; w < words; w++) {
+                    long v = V[w];
+                    long m = masks[base + w];
+                    long u = v & m;
+                    long sum = v + u + carry;
+                    carry = ((v & u) | ((v | u) & ~sum)) >>> 63;
+                    V[w] = sum | (v & ~m);
+                }
+            }
+
+            int ones = 0;
+            for (int w = 0; w < words; w++) {
+                long v = V[w];
+                if (w == words - 1 && (n & 63) != 0)
+                    v &= (1L << (n & 63)) - 1; // Ignore bits past the end of Y
+                ones += Long.bitCount(v);
+            }
+            return n - ones;
+        }
+    }
+
+    // Method 6: Wavefront-parallel LCS length. The table is cut into tiles and every
+    // anti-diagonal of tiles runs in parallel on a ForkJoinPool; tiles on one
+    // anti-diagonal only depend on tiles of earlier ones. No tile keeps more than its
+    // own two rows: tiles pass values on through a shared bottom row (one entry per
+    // column of the table) and right column (one entry per row).
+    public static int lcsWavefront(String X, String Y) {
+        return lcsWavefront(X, Y, ForkJoinPool.commonPool(), WAVEFRONT_TILE);
+    }
+
+    public static int lcsWavefront(String X, String Y, ForkJoinPool pool, int tile) {
+        char[] x = X.toCharArray();
+        char[] y = Y.toCharArray();
+        int m = x.length;
+        int n = y.length;
+        if (m == 0 || n == 0)
+            return 0;
+
+        int[] bottom = new int[n + 1];  // Last row computed so far in each column
+        int[] right = new int[m + 1];   // Last column computed so far in each row
+        int tileRows = (m + tile - 1) / tile;
+        int tileCols = (n + tile - 1) / tile;
+        // corner[ti] carries C[i0 - 1][j0 - 1] from tile (ti, tj - 1) to tile (ti, tj),
+        // since tile (ti, tj - 1) overwrites that entry of bottom before (ti, tj) runs
+        int[] corner = new int[tileRows];
+
+        runWavefront(tileRows, tileCols, pool, (ti, tj) -> {
+            int i0 = ti * tile + 1, i1 = Math.min(m, i0 + tile - 1);
+            int j0 = tj * tile + 1, j1 = Math.min(n, j0 + tile - 1);
+            int width = j1 - j0 + 1;
+            int[] previous = new int[width + 1];
+            int[] current = new int[width + 1];
+
+            // Top boundary row, starting with the corner; hand our top-right value on
+            previous[0] = corner[ti];
+            System.arraycopy(bottom, j0, previous, 1, width);
+            corner[ti] = bottom[j1];
+
+            for (int i = i0; i <= i1; i++) {
+                current[0] = right[i];
+                char xi = x[i - 1];
+                for (int j = 1; j <= width; j++) {
+                    if (xi == y[j0 + j - 2])
+                        current[j] = previous[j - 1] + 1;
+                    else
+                        current[j] = Math.max(previous[j], current[j - 1]);
+                }
+                right[i] = current[width];
+                int[] temp = previous;
+                previous = current;
+                current = temp;
+            }
+            System.arraycopy(previous, 1, bottom, j0, width);
+        });
+
+        return bottom[n];
+    }
+
+    // Edge length of a wavefront tile, in cells; a 1024 x 1024 tile is about a millisecond of work
+    static final int WAVEFRONT_TILE = 1024;
+
+    // Computes one tile (tile row, tile column) of a wavefront
+    interface TileTask {
+        void compute(int tileRow, int tileCol);
+    }
+
+    // Runs every tile of a tileRows x tileCols grid, one anti-diagonal at a time, with
+    // the tiles of each anti-diagonal forked in parallel. Tile (ti, tj) runs after
+    // tiles (ti - 1, tj) and (ti, tj - 1), which is all an LCS table fill needs.
+    static void runWavefront(int tileRows, int tileCols, ForkJoinPool pool, TileTask task) {
+        for (int d = 0; d < tileRows + tileCols - 1; d++) {
+            int first = Math.max(0, d - tileCols + 1);
+            int last = Math.min(d, tileRows - 1);
+            List<RecursiveAction> tiles = new ArrayList<>(last - first + 1);
+            for (int ti = first; ti <= last; ti++) {
+                int tileRow = ti, tileCol = d - ti;
+                tiles.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        task.compute(tileRow, tileCol);
+                    }
+                });
+            }
+            if (tiles.size() == 1) {
+                task.compute(first, d - first);
+            } else {
+                pool.invoke(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        invokeAll(tiles);
+                    }
+                });
+            }
+        }
+    }
+
+    // Print_LCS(b[][], X, i, j). Walks the arrows back from (i, j) in a loop rather
+    // than recursing, so long inputs cannot overflow the stack
+    public static void printLCS(char[][] B, String X, int i, int j) {
+        StringBuilder lcs = new StringBuilder();
+        while (i > 0 && j > 0) {
+            if (B[i][j] == '↖') {
+                lcs.append(X.charAt(i - 1));
+                i--;
+                j--;
+            } else if (B[i][j] == '↑') {
+                i--;
+            } else {
+                j--;
+            }
+        }
+        System.out.print(lcs.reverse());
+    }
+
+    // Print_LCS1(c[][], X, Y, i, j), iterative like printLCS
     public static void printLCS1(int[][] C, String X, String Y, int i, int j) {
-        if (i == 0 || j == 0)
-            return;
-        if (X.charAt(i - 1) == Y.charAt(j - 1)) {
-            printLCS1(C, X, Y, i - 1, j - 1);
-            System.out.print(X.charAt(i - 1));
-        } else if (C[i - 1][j] >= C[i][j - 1]) {
-            printLCS1(C, X, Y, i - 1, j);
-        } else {
-            printLCS1(C, X, Y, i, j - 1);
+        StringBuilder lcs = new StringBuilder();
+        while (i > 0 && j > 0) {
+            if (X.charAt(i - 1) == Y.charAt(j - 1)) {
+                lcs.append(X.charAt(i - 1));
+                i--;
+                j--;
+            } else if (C[i - 1][j] >= C[i][j - 1]) {
+                i--;
+            } else {
+                j--;
+            }
         }
+        System.out.print(lcs.reverse());
     }
 
     // Main method
@@ -120,17 +495,42 @@ public class LCS {
         int m = X.length();
         int n = Y.length();
 
-        // Method 1: Divide and Conquer Only
-        int lcsLengthDivideAndConquer = lcsDivideAndConquer(X, Y, m, n);
-        System.out.println("\nDivide and Conquer Only:");
-        System.out.println("Length of LCS is " + lcsLengthDivideAndConquer);
+        // Method 1: Divide and Conquer Only. It is exponential in the input length,
+        // so it only runs when asked for with --exponential
+        if (Arrays.asList(args).contains("--exponential")) {
+            int lcsLengthDivideAndConquer = lcsDivideAndConquer(X, Y, m, n);
+            System.out.println("\nDivide and Conquer Only:");
+            System.out.println("Length of LCS is " + lcsLengthDivideAndConquer);
+        }
+
+        // Methods 1b and 2 keep an (m + 1) x (n + 1) table, which long inputs cannot
+        // afford, so they only run when asked for with --full-table
+        if (Arrays.asList(args).contains("--full-table")) {
+            // Method 1b: Divide and Conquer with Memoization
+            System.out.println("\nDivide and Conquer with Memoization:");
+            System.out.println("Length of LCS is " + lcsMemoized(X, Y));
 
-        // Method 2: Dynamic Programming Algorithm
-        lcsDynamicProgramming(X, Y);
+            // Method 2: Dynamic Programming Algorithm
+            lcsDynamicProgramming(X, Y);
+        }
 
         // Method 3: Dynamic Programming with 2 1D Arrays
         lcsDynamicProgrammingOptimized(X, Y);
 
+        // Method 4: Hirschberg's Algorithm
+        String lcsHirschberg = lcsHirschberg(X, Y);
+        System.out.println("\nHirschberg's Algorithm:");
+        System.out.println("Length of LCS is " + lcsHirschberg.length());
+        System.out.println("LCS: " + lcsHirschberg);
+
+        // Method 5: Bit-parallel LCS length
+        System.out.println("\nBit-parallel Algorithm:");
+        System.out.println("Length of LCS is " + lcsBitParallel(X, Y));
+
+        // Method 6: Wavefront-parallel LCS length
+        System.out.println("\nWavefront-parallel Algorithm:");
+        System.out.println("Length of LCS is " + lcsWavefront(X, Y));
+
         scanner.close();
     }
 }
\ No newline at end of file
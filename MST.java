@@ -26,8 +26,128 @@ public class MST {
         }
     }
 
-    // Main method
+    // Compressed sparse row adjacency for Prim's heap-based algorithm: the neighbours of v
+    // are targets[offsets[v] .. offsets[v + 1]) with matching weights, each undirected edge
+    // stored once in each direction
+    static class CsrGraph {
+        int V;
+        int[] offsets;
+        int[] targets;
+        int[] weights;
+
+        static CsrGraph fromEdges(int V, int[] src, int[] dest, int[] weight) {
+            CsrGraph graph = new CsrGraph();
+            graph.V = V;
+            graph.offsets = new int[V + 1];
+            for (int i = 0; i < src.length; i++) {
+                graph.offsets[src[i] + 1]++;
+                graph.offsets[dest[i] + 1]++;
+            }
+            for (int v = 0; v < V; v++) {
+                graph.offsets[v + 1] += graph.offsets[v];
+            }
+            graph.targets = new int[2 * src.length];
+            graph.weights = new int[2 * src.length];
+            int[] next = Arrays.copyOf(graph.offsets, V);
+            for (int i = 0; i < src.length; i++) {
+                int a = next[src[i]]++;
+                graph.targets[a] = dest[i];
+                graph.weights[a] = weight[i];
+                int b = next[dest[i]]++;
+                graph.targets[b] = src[i];
+                graph.weights[b] = weight[i];
+            }
+            return graph;
+        }
+
+        static CsrGraph fromGraph(Graph g) {
+            int[] src = new int[g.E];
+            int[] dest = new int[g.E];
+            int[] weight = new int[g.E];
+            for (int i = 0; i < g.E; i++) {
+                src[i] = g.edges[i].src;
+                dest[i] = g.edges[i].dest;
+                weight[i] = g.edges[i].weight;
+            }
+            return fromEdges(g.V, src, dest, weight);
+        }
+    }
+
+    // Indexed binary min-heap of vertices keyed by distance[], with decrease-key. pos[v] is
+    // the heap slot of v, or -1 when v is not in the heap. Equal distances come out lowest
+    // vertex first, the same choice as the dense scan in PrimMST.
+    static class IndexedMinHeap {
+        private final int[] heap;
+        private final int[] pos;
+        private final int[] distance;
+        private int size;
+
+        IndexedMinHeap(int n, int[] distance) {
+            this.heap = new int[n];
+            this.pos = new int[n];
+            this.distance = distance;
+            Arrays.fill(pos, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        // Inserts v, or moves it up after distance[v] has decreased
+        void insertOrDecrease(int v) {
+            int i = pos[v];
+            if (i == -1) {
+                i = size++;
+            }
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!less(v, heap[up])) {
+                    break;
+                }
+                heap[i] = heap[up];
+                pos[heap[i]] = i;
+                i = up;
+            }
+            heap[i] = v;
+            pos[v] = i;
+        }
+
+        int poll() {
+            int top = heap[0];
+            pos[top] = -1;
+            int v = heap[--size];
+            if (size > 0) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && less(heap[child + 1], heap[child])) {
+                        child++;
+                    }
+                    if (!less(heap[child], v)) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    pos[heap[i]] = i;
+                    i = child;
+                }
+                heap[i] = v;
+                pos[v] = i;
+            }
+            return top;
+        }
+
+        private boolean less(int a, int b) {
+            return distance[a] < distance[b] || (distance[a] == distance[b] && a < b);
+        }
+    }
+
+    // Main method; pass --prim-dense to run Prim's algorithm on an O(V^2) weight matrix
+    // instead of adjacency lists
     public static void main(String[] args) {
+        boolean primDense = Arrays.asList(args).contains("--prim-dense");
         Scanner sc = new Scanner(System.in);
 
         // Input number of vertices and edges
@@ -47,25 +167,31 @@ public class MST {
             graph.edges[i].weight = sc.nextInt();
         }
 
-        // Initialize the adjacency matrix for Prim's algorithm
-        int[][] W = new int[V][V];
-        for (int i = 0; i < V; i++)
-            Arrays.fill(W[i], Integer.MAX_VALUE); // Initialize weights to infinity
-
-        for (Edge edge : graph.edges) {
-            W[edge.src][edge.dest] = edge.weight;
-            W[edge.dest][edge.src] = edge.weight; // For undirected graph
-        }
-
         sc.close();
 
         // Kruskal's Algorithm
         System.out.println("\nKruskal's Algorithm:");
         KruskalMST(graph);
 
-        // Prim's Algorithm
-        System.out.println("\nPrim's Algorithm:");
-        PrimMST(W, V);
+        if (primDense) {
+            // Initialize the adjacency matrix for Prim's algorithm
+            int[][] W = new int[V][V];
+            for (int i = 0; i < V; i++)
+                Arrays.fill(W[i], Integer.MAX_VALUE); // Initialize weights to infinity
+
+            for (Edge edge : graph.edges) {
+                W[edge.src][edge.dest] = edge.weight;
+                W[edge.dest][edge.src] = edge.weight; // For undirected graph
+            }
+
+            // Prim's Algorithm
+            System.out.println("\nPrim's Algorithm (dense):");
+            PrimMST(W, V);
+        } else {
+            // Prim's Algorithm over adjacency lists
+            System.out.println("\nPrim's Algorithm:");
+            PrimMSTSparse(CsrGraph.fromGraph(graph));
+        }
 
         // Comparison
         System.out.println("\nComparison between Kruskal's and Prim's algorithms:");
@@ -200,6 +326,54 @@ public class MST {
         System.out.println("Total weight of MST: " + totalWeight);
     }
 
+    // Heap-based Prim's Algorithm over a CSR adjacency: O(E log V) time and O(V + E) memory.
+    // Each vertex waits in an indexed heap keyed by its distance to the tree, and relaxing an
+    // edge is a decrease-key. Prints in the same format as PrimMST.
+    static void PrimMSTSparse(CsrGraph graph) {
+        int n = graph.V;
+        int[] nearest = new int[n];
+        int[] distance = new int[n];
+        boolean[] inTree = new boolean[n];
+        ArrayList<String> mstEdges = new ArrayList<>();
+        IndexedMinHeap heap = new IndexedMinHeap(n, distance);
+
+        // Initialize
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        int totalWeight = 0;
+        int near = 0; // Include first vertex in MST
+
+        for (int iter = 0; iter < n; iter++) {
+            if (iter > 0) {
+                if (heap.isEmpty()) {
+                    System.out.println("Graph is not connected.");
+                    return;
+                }
+                // Closest vertex not in the tree
+                near = heap.poll();
+                totalWeight += distance[near];
+                mstEdges.add((nearest[near] + 1) + " -- " + (near + 1) + " == " + distance[near]);
+            }
+            inTree[near] = true;
+
+            // Update the distances of its neighbours
+            for (int e = graph.offsets[near]; e < graph.offsets[near + 1]; e++) {
+                int i = graph.targets[e];
+                if (!inTree[i] && graph.weights[e] < distance[i]) {
+                    distance[i] = graph.weights[e];
+                    nearest[i] = near;
+                    heap.insertOrDecrease(i);
+                }
+            }
+        }
+
+        // Print the constructed MST
+        System.out.println("Edges in the MST:");
+        for (String edge : mstEdges) {
+            System.out.println(edge);
+        }
+        System.out.println("Total weight of MST: " + totalWeight);
+    }
+
     // ---------------- Comparison ----------------
 
     static void compareAlgorithms() {
@@ -211,7 +385,8 @@ public class MST {
         System.out.println("\nPrim's Algorithm:");
         System.out.println("- Requires the graph to be connected.");
         System.out.println("- Builds the MST by always adding the nearest vertex to the tree.");
-        System.out.println("- Better suited for dense graphs.");
+        System.out.println("- Better suited for dense graphs with the O(V^2) matrix version;");
+        System.out.println("  the heap-based version over adjacency lists runs in O(E log V) for sparse graphs.");
 
         System.out.println("\nCommonalities:");
         System.out.println("- Both are greedy algorithms used to find the Minimum Spanning Tree of a graph.");
@@ -1,7 +1,32 @@
+import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
 
 public class MatrixMultiplication {
 
+    // Tile sizes for the blocked kernel: a TILE_DEPTH x TILE_COLS panel of B
+    // (128 KB of ints) stays in L2 while each row of A streams over it from L1
+    private static final int TILE_ROWS = 32;
+    private static final int TILE_DEPTH = 128;
+    private static final int TILE_COLS = 256;
+
+    // Below this size Strassen's extra additions cost more than they save
+    private static final int STRASSEN_CUTOFF = 128;
+
+    // multiply() picks the engine from these shape thresholds
+    private static final int SEQUENTIAL_MAX_SIZE = 64;
+    private static final int STRASSEN_MIN_SIZE = 1024;
+
+    // Recursion levels that fork their sub-products: two levels give 49 Strassen
+    // tasks or 64 divide and conquer tasks, enough to keep 16 cores busy
+    private static final int PARALLEL_FORK_DEPTH = 2;
+
+    // Sub-problems at or below this size are not worth forking
+    private static final int PARALLEL_MIN_FORK_SIZE = 64;
+
     // Direct method for matrix multiplication
     public static int[][] directMultiply(int[][] A, int[][] B) {
         int n = A.length;
@@ -95,6 +120,761 @@ public class MatrixMultiplication {
         return C;
     }
 
+    // Cache-blocked, parallel method for matrix multiplication
+    public static int[][] blockedMultiply(int[][] A, int[][] B) {
+        return blockedMultiply(A, B, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static int[][] blockedMultiply(int[][] A, int[][] B, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1.");
+        }
+        if (parallelism == 1) {
+            return blockedMultiply(A, B, null);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return blockedMultiply(A, B, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Runs on the given pool so batch jobs can reuse one pool across calls;
+    // a null pool runs the row tiles on the calling thread
+    public static int[][] blockedMultiply(int[][] A, int[][] B, ForkJoinPool pool) {
+        int rows = A.length;
+        int depth = B.length;
+        int cols = B[0].length;
+        if (A[0].length != depth) {
+            throw new IllegalArgumentException("Inner dimensions of A and B must be equal.");
+        }
+
+        // Pack both operands into flat row-major buffers
+        int[] a = packMatrix(A);
+        int[] b = packMatrix(B);
+        int[] c = new int[rows * cols];
+
+        RowBlockKernel kernel = (rowStart, rowEnd) ->
+                blockedKernel(a, 0, depth, b, 0, cols, c, 0, cols, rowStart, rowEnd, depth, cols);
+        runRowTiles(kernel, rows, pool);
+
+        return unpackMatrix(c, rows, cols);
+    }
+
+    // Multiplies a range of rows of the result; each range writes a disjoint
+    // slice of C, so ranges can run concurrently without synchronization
+    interface RowBlockKernel {
+        void multiplyRows(int rowStart, int rowEnd);
+    }
+
+    // Splits the rows of the result into tiles of TILE_ROWS and forks them
+    static class RowTileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RowBlockKernel kernel;
+        private final int rowStart;
+        private final int rowEnd;
+
+        RowTileTask(RowBlockKernel kernel, int rowStart, int rowEnd) {
+            this.kernel = kernel;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int tiles = (rowEnd - rowStart + TILE_ROWS - 1) / TILE_ROWS;
+            if (tiles <= 1) {
+                kernel.multiplyRows(rowStart, rowEnd);
+            } else {
+                int mid = rowStart + (tiles / 2) * TILE_ROWS;
+                invokeAll(new RowTileTask(kernel, rowStart, mid), new RowTileTask(kernel, mid, rowEnd));
+            }
+        }
+    }
+
+    // Blocked i-k-j kernel over flat row-major buffers:
+    // C[rowStart..rowEnd)[0..cols) += A[rowStart..rowEnd)[0..depth) * B[0..depth)[0..cols)
+    // The innermost loop walks rows of B and C contiguously instead of striding down columns of B
+    static void blockedKernel(int[] a, int aOff, int lda, int[] b, int bOff, int ldb,
+                              int[] c, int cOff, int ldc, int rowStart, int rowEnd, int depth, int cols) {
+        for (int jj = 0; jj < cols; jj += TILE_COLS) {
+            int jEnd = Math.min(jj + TILE_COLS, cols);
+            for (int kk = 0; kk < depth; kk += TILE_DEPTH) {
+                int kEnd = Math.min(kk + TILE_DEPTH, depth);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int aRow = aOff + i * lda;
+                    int cRow = cOff + i * ldc;
+                    for (int k = kk; k < kEnd; k++) {
+                        int aik = a[aRow + k];
+                        if (aik == 0) {
+                            continue;
+                        }
+                        int bRow = bOff + k * ldb;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Strassen's algorithm with a leaf cutoff, quadrant views and a reusable scratch arena.
+    // Works for any m x k by k x n shape: odd rows, columns and inner dimensions are
+    // peeled off and fixed up with the blocked kernel instead of padding to a power of two
+    public static int[][] fastStrassenMultiply(int[][] A, int[][] B) {
+        return fastStrassenMultiply(A, B, STRASSEN_CUTOFF);
+    }
+
+    public static int[][] fastStrassenMultiply(int[][] A, int[][] B, int cutoff) {
+        int m = A.length;
+        int k = B.length;
+        int n = B[0].length;
+        if (A[0].length != k) {
+            throw new IllegalArgumentException("Inner dimensions of A and B must be equal.");
+        }
+        int[] c = new int[m * n];
+        fastStrassenMultiply(packMatrix(A), packMatrix(B), c, m, k, n, new StrassenWorkspace(m, k, n, cutoff));
+        return unpackMatrix(c, m, n);
+    }
+
+    // Multiplies flat row-major buffers (m x k times k x n) into c; with a workspace
+    // kept by the caller the whole multiply runs without allocating
+    public static void fastStrassenMultiply(int[] a, int[] b, int[] c, int m, int k, int n, StrassenWorkspace ws) {
+        if (StrassenWorkspace.arenaSize(m, k, n, ws.cutoff) > ws.arena.length) {
+            throw new IllegalArgumentException("Workspace is too small for a " + m + "x" + k + " by " + k + "x" + n + " multiply.");
+        }
+        strassenRecursive(a, 0, k, b, 0, n, c, 0, n, m, k, n, ws.cutoff, ws.arena, 0);
+    }
+
+    public static void fastStrassenMultiply(int[] a, int[] b, int[] c, int n, StrassenWorkspace ws) {
+        fastStrassenMultiply(a, b, c, n, n, n, ws);
+    }
+
+    // Scratch arena for fastStrassenMultiply: each recursion level takes three
+    // blocks (an A operand, a B operand and a product) from the arena, laid out
+    // one level after another, so all levels share one allocation
+    public static class StrassenWorkspace {
+        final int cutoff;
+        final int[] arena;
+
+        public StrassenWorkspace(int size, int cutoff) {
+            this(size, size, size, cutoff);
+        }
+
+        public StrassenWorkspace(int m, int k, int n, int cutoff) {
+            if (cutoff < 1) {
+                throw new IllegalArgumentException("Cutoff must be at least 1.");
+            }
+            this.cutoff = cutoff;
+            this.arena = new int[arenaSize(m, k, n, cutoff)];
+        }
+
+        static int arenaSize(int m, int k, int n, int cutoff) {
+            int total = 0;
+            while (Math.min(m, Math.min(k, n)) > cutoff) {
+                m /= 2;
+                k /= 2;
+                n /= 2;
+                total += m * k + k * n + m * n;
+            }
+            return total;
+        }
+    }
+
+    // C = A * B over m x k and k x n views (offset plus leading dimension) of flat buffers
+    private static void strassenRecursive(int[] a, int aOff, int lda, int[] b, int bOff, int ldb,
+                                          int[] c, int cOff, int ldc, int m, int k, int n,
+                                          int cutoff, int[] arena, int arenaOff) {
+        if (Math.min(m, Math.min(k, n)) <= cutoff) {
+            // Leaf: fall back to the blocked kernel
+            fillBlock(c, cOff, ldc, m, n, 0);
+            blockedKernel(a, aOff, lda, b, bOff, ldb, c, cOff, ldc, 0, m, k, n);
+            return;
+        }
+
+        // Strassen runs on the even-sized core; odd edges are peeled below
+        int hm = m / 2, hk = k / 2, hn = n / 2;
+        int a11 = aOff, a12 = aOff + hk, a21 = aOff + hm * lda, a22 = a21 + hk;
+        int b11 = bOff, b12 = bOff + hn, b21 = bOff + hk * ldb, b22 = b21 + hn;
+        int c11 = cOff, c12 = cOff + hn, c21 = cOff + hm * ldc, c22 = c21 + hn;
+        int s = arenaOff, t = s + hm * hk, p = t + hk * hn, next = p + hm * hn;
+
+        // P1 = (A11 + A22)(B11 + B22), written into C11 and copied into C22
+        combineBlocks(a, a11, lda, a, a22, lda, arena, s, hk, hm, hk, 1);
+        combineBlocks(b, b11, ldb, b, b22, ldb, arena, t, hn, hk, hn, 1);
+        strassenRecursive(arena, s, hk, arena, t, hn, c, c11, ldc, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c11, ldc, c, c11, ldc, c, c22, ldc, hm, hn, 0);
+
+        // P2 = (A21 + A22) B11, written into C21; C22 -= P2
+        combineBlocks(a, a21, lda, a, a22, lda, arena, s, hk, hm, hk, 1);
+        strassenRecursive(arena, s, hk, b, b11, ldb, c, c21, ldc, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c22, ldc, c, c21, ldc, c, c22, ldc, hm, hn, -1);
+
+        // P3 = A11 (B12 - B22), written into C12; C22 += P3
+        combineBlocks(b, b12, ldb, b, b22, ldb, arena, t, hn, hk, hn, -1);
+        strassenRecursive(a, a11, lda, arena, t, hn, c, c12, ldc, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c22, ldc, c, c12, ldc, c, c22, ldc, hm, hn, 1);
+
+        // P4 = A22 (B21 - B11); C11 += P4, C21 += P4
+        combineBlocks(b, b21, ldb, b, b11, ldb, arena, t, hn, hk, hn, -1);
+        strassenRecursive(a, a22, lda, arena, t, hn, arena, p, hn, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c11, ldc, arena, p, hn, c, c11, ldc, hm, hn, 1);
+        combineBlocks(c, c21, ldc, arena, p, hn, c, c21, ldc, hm, hn, 1);
+
+        // P5 = (A11 + A12) B22; C11 -= P5, C12 += P5
+        combineBlocks(a, a11, lda, a, a12, lda, arena, s, hk, hm, hk, 1);
+        strassenRecursive(arena, s, hk, b, b22, ldb, arena, p, hn, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c11, ldc, arena, p, hn, c, c11, ldc, hm, hn, -1);
+        combineBlocks(c, c12, ldc, arena, p, hn, c, c12, ldc, hm, hn, 1);
+
+        // P6 = (A21 - A11)(B11 + B12); C22 += P6
+        combineBlocks(a, a21, lda, a, a11, lda, arena, s, hk, hm, hk, -1);
+        combineBlocks(b, b11, ldb, b, b12, ldb, arena, t, hn, hk, hn, 1);
+        strassenRecursive(arena, s, hk, arena, t, hn, arena, p, hn, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c22, ldc, arena, p, hn, c, c22, ldc, hm, hn, 1);
+
+        // P7 = (A12 - A22)(B21 + B22); C11 += P7
+        combineBlocks(a, a12, lda, a, a22, lda, arena, s, hk, hm, hk, -1);
+        combineBlocks(b, b21, ldb, b, b22, ldb, arena, t, hn, hk, hn, 1);
+        strassenRecursive(arena, s, hk, arena, t, hn, arena, p, hn, hm, hk, hn, cutoff, arena, next);
+        combineBlocks(c, c11, ldc, arena, p, hn, c, c11, ldc, hm, hn, 1);
+
+        // Dynamic peeling of odd edges
+        int m2 = 2 * hm, k2 = 2 * hk, n2 = 2 * hn;
+        if (k2 < k) {
+            // Last column of A times last row of B, added to the core of C
+            blockedKernel(a, aOff + k2, lda, b, bOff + k2 * ldb, ldb, c, cOff, ldc, 0, m2, 1, n2);
+        }
+        if (n2 < n) {
+            // Last column of C for the core rows
+            fillBlock(c, cOff + n2, ldc, m2, 1, 0);
+            blockedKernel(a, aOff, lda, b, bOff + n2, ldb, c, cOff + n2, ldc, 0, m2, k, 1);
+        }
+        if (m2 < m) {
+            // Last row of C, across every column
+            fillBlock(c, cOff + m2 * ldc, ldc, 1, n, 0);
+            blockedKernel(a, aOff, lda, b, bOff, ldb, c, cOff, ldc, m2, m, k, n);
+        }
+    }
+
+    // Z = X + sign * Y over rows x cols views; sign 0 copies X into Z
+    private static void combineBlocks(int[] x, int xOff, int ldx, int[] y, int yOff, int ldy,
+                                      int[] z, int zOff, int ldz, int rows, int cols, int sign) {
+        for (int i = 0; i < rows; i++) {
+            int xRow = xOff + i * ldx, yRow = yOff + i * ldy, zRow = zOff + i * ldz;
+            if (sign == 0) {
+                System.arraycopy(x, xRow, z, zRow, cols);
+            } else if (sign > 0) {
+                for (int j = 0; j < cols; j++) {
+                    z[zRow + j] = x[xRow + j] + y[yRow + j];
+                }
+            } else {
+                for (int j = 0; j < cols; j++) {
+                    z[zRow + j] = x[xRow + j] - y[yRow + j];
+                }
+            }
+        }
+    }
+
+    // Helper method to set every element of a rows x cols view to value
+    private static void fillBlock(int[] m, int off, int ld, int rows, int cols, int value) {
+        for (int i = 0; i < rows; i++) {
+            Arrays.fill(m, off + i * ld, off + i * ld + cols, value);
+        }
+    }
+
+    // Single entry point: picks the fastest engine for the shape of A and B
+    public static int[][] multiply(int[][] A, int[][] B) {
+        int m = A.length;
+        int k = B.length;
+        int n = B[0].length;
+        if (A[0].length != k) {
+            throw new IllegalArgumentException("Inner dimensions of A and B must be equal.");
+        }
+
+        // Tiny products: forking and packing overheads dominate
+        if ((long) m * k * n <= (long) SEQUENTIAL_MAX_SIZE * SEQUENTIAL_MAX_SIZE * SEQUENTIAL_MAX_SIZE) {
+            return blockedMultiply(A, B, (ForkJoinPool) null);
+        }
+
+        // Large square products: Strassen's lower operation count wins
+        if (m == k && k == n && n >= STRASSEN_MIN_SIZE) {
+            return parallelStrassenMultiply(A, B);
+        }
+
+        // Everything else, including rectangular and tall-skinny shapes: blocked kernel over row tiles
+        return blockedMultiply(A, B, ForkJoinPool.commonPool());
+    }
+
+    // ---------------- Element Semantics ----------------
+    // The int methods above wrap silently on overflow. The methods below run the
+    // same tiled i-k-j loop and row-tile fork/join driver with other arithmetic:
+    // long accumulation, overflow-checked accumulation, arithmetic mod p and double.
+
+    // Long accumulation: wraps only past the range of long
+    public static long[][] multiplyLong(long[][] A, long[][] B) {
+        return multiplyLong(A, B, ForkJoinPool.commonPool());
+    }
+
+    public static long[][] multiplyLong(long[][] A, long[][] B, ForkJoinPool pool) {
+        int rows = A.length, depth = B.length, cols = B[0].length;
+        checkInnerDimensions(A[0].length, depth);
+        long[] a = packMatrix(A), b = packMatrix(B), c = new long[rows * cols];
+
+        runRowTiles((rowStart, rowEnd) -> blockedKernelLong(a, b, c, rowStart, rowEnd, depth, cols), rows, pool);
+        return unpackMatrix(c, rows, cols);
+    }
+
+    // Overflow-checked accumulation: throws ArithmeticException instead of wrapping
+    public static long[][] multiplyExact(long[][] A, long[][] B) {
+        return multiplyExact(A, B, ForkJoinPool.commonPool());
+    }
+
+    public static long[][] multiplyExact(long[][] A, long[][] B, ForkJoinPool pool) {
+        int rows = A.length, depth = B.length, cols = B[0].length;
+        checkInnerDimensions(A[0].length, depth);
+        long[] a = packMatrix(A), b = packMatrix(B), c = new long[rows * cols];
+
+        runRowTiles((rowStart, rowEnd) -> blockedKernelExact(a, b, c, rowStart, rowEnd, depth, cols), rows, pool);
+        return unpackMatrix(c, rows, cols);
+    }
+
+    // Overflow-checked int product: accumulates exactly in long and throws if
+    // any element of the result does not fit in an int
+    public static int[][] multiplyExact(int[][] A, int[][] B) {
+        long[][] C = multiplyExact(toLongMatrix(A), toLongMatrix(B));
+        int[][] result = new int[C.length][C[0].length];
+        for (int i = 0; i < C.length; i++) {
+            for (int j = 0; j < C[0].length; j++) {
+                result[i][j] = Math.toIntExact(C[i][j]);
+            }
+        }
+        return result;
+    }
+
+    // Arithmetic mod p for 2 <= p < 2^31, with Barrett reduction instead of division
+    public static int[][] multiplyMod(int[][] A, int[][] B, int p) {
+        return multiplyMod(A, B, p, ForkJoinPool.commonPool());
+    }
+
+    public static int[][] multiplyMod(int[][] A, int[][] B, int p, ForkJoinPool pool) {
+        int rows = A.length, depth = B.length, cols = B[0].length;
+        checkInnerDimensions(A[0].length, depth);
+        BarrettReducer reducer = new BarrettReducer(p);
+        int[] a = packMatrixMod(A, p), b = packMatrixMod(B, p);
+        long[] c = new long[rows * cols];
+
+        runRowTiles((rowStart, rowEnd) ->
+                blockedKernelMod(a, b, c, rowStart, rowEnd, depth, cols, reducer), rows, pool);
+
+        int[][] C = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                C[i][j] = (int) reducer.reduce(c[i * cols + j]);
+            }
+        }
+        return C;
+    }
+
+    // Floating-point accumulation for numeric workloads
+    public static double[][] multiplyDouble(double[][] A, double[][] B) {
+        return multiplyDouble(A, B, ForkJoinPool.commonPool());
+    }
+
+    public static double[][] multiplyDouble(double[][] A, double[][] B, ForkJoinPool pool) {
+        int rows = A.length, depth = B.length, cols = B[0].length;
+        checkInnerDimensions(A[0].length, depth);
+        double[] a = packMatrix(A), b = packMatrix(B), c = new double[rows * cols];
+
+        runRowTiles((rowStart, rowEnd) -> blockedKernelDouble(a, b, c, rowStart, rowEnd, depth, cols), rows, pool);
+        return unpackMatrix(c, rows, cols);
+    }
+
+    // Barrett reduction for 2 <= p < 2^31: with r = floor((2^64 - 1) / p), the high
+    // word of x * r underestimates x / p by at most 2, so two conditional
+    // subtractions replace the division for any 0 <= x < 2^63
+    static final class BarrettReducer {
+        final long p;
+        final long r;
+
+        BarrettReducer(int p) {
+            if (p < 2) {
+                throw new IllegalArgumentException("Modulus must be at least 2.");
+            }
+            this.p = p;
+            this.r = Long.divideUnsigned(-1L, p);
+        }
+
+        long reduce(long x) {
+            long q = Math.multiplyHigh(x, r);
+            long result = x - q * p;
+            if (result >= p) {
+                result -= p;
+            }
+            if (result >= p) {
+                result -= p;
+            }
+            return result;
+        }
+    }
+
+    // Runs the kernel over all rows, forking row tiles on the pool if there is one
+    private static void runRowTiles(RowBlockKernel kernel, int rows, ForkJoinPool pool) {
+        if (pool == null) {
+            kernel.multiplyRows(0, rows);
+        } else {
+            pool.invoke(new RowTileTask(kernel, 0, rows));
+        }
+    }
+
+    private static void checkInnerDimensions(int aCols, int bRows) {
+        if (aCols != bRows) {
+            throw new IllegalArgumentException("Inner dimensions of A and B must be equal.");
+        }
+    }
+
+    // The kernels below follow blockedKernel over dense row-major buffers (lda = depth, ldb = ldc = cols)
+
+    static void blockedKernelLong(long[] a, long[] b, long[] c, int rowStart, int rowEnd, int depth, int cols) {
+        for (int jj = 0; jj < cols; jj += TILE_COLS) {
+            int jEnd = Math.min(jj + TILE_COLS, cols);
+            for (int kk = 0; kk < depth; kk += TILE_DEPTH) {
+                int kEnd = Math.min(kk + TILE_DEPTH, depth);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        long aik = a[i * depth + k];
+                        if (aik == 0) {
+                            continue;
+                        }
+                        int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void blockedKernelExact(long[] a, long[] b, long[] c, int rowStart, int rowEnd, int depth, int cols) {
+        for (int jj = 0; jj < cols; jj += TILE_COLS) {
+            int jEnd = Math.min(jj + TILE_COLS, cols);
+            for (int kk = 0; kk < depth; kk += TILE_DEPTH) {
+                int kEnd = Math.min(kk + TILE_DEPTH, depth);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        long aik = a[i * depth + k];
+                        if (aik == 0) {
+                            continue;
+                        }
+                        int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] = Math.addExact(c[cRow + j], Math.multiplyExact(aik, b[bRow + j]));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Inputs are already reduced below p, so each product is below 2^62; an
+    // accumulator is reduced once it reaches 2^62, which keeps every sum below 2^63
+    static void blockedKernelMod(int[] a, int[] b, long[] c, int rowStart, int rowEnd, int depth, int cols,
+                                 BarrettReducer reducer) {
+        final long lazyBound = 1L << 62;
+        for (int jj = 0; jj < cols; jj += TILE_COLS) {
+            int jEnd = Math.min(jj + TILE_COLS, cols);
+            for (int kk = 0; kk < depth; kk += TILE_DEPTH) {
+                int kEnd = Math.min(kk + TILE_DEPTH, depth);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        long aik = a[i * depth + k];
+                        if (aik == 0) {
+                            continue;
+                        }
+                        int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            long sum = c[cRow + j] + aik * b[bRow + j];
+                            c[cRow + j] = sum >= lazyBound ? reducer.reduce(sum) : sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void blockedKernelDouble(double[] a, double[] b, double[] c, int rowStart, int rowEnd, int depth, int cols) {
+        for (int jj = 0; jj < cols; jj += TILE_COLS) {
+            int jEnd = Math.min(jj + TILE_COLS, cols);
+            for (int kk = 0; kk < depth; kk += TILE_DEPTH) {
+                int kEnd = Math.min(kk + TILE_DEPTH, depth);
+                for (int i = rowStart; i < rowEnd; i++) {
+                    int cRow = i * cols;
+                    for (int k = kk; k < kEnd; k++) {
+                        // No zero skip here: 0 * NaN and 0 * Inf must still yield NaN
+                        double aik = a[i * depth + k];
+                        int bRow = k * cols;
+                        for (int j = jj; j < jEnd; j++) {
+                            c[cRow + j] += aik * b[bRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Parallel divide and conquer method: the eight sub-products are forked on a ForkJoinPool
+    public static int[][] parallelDivideAndConquerMultiply(int[][] A, int[][] B) {
+        return parallelDivideAndConquerMultiply(A, B, ForkJoinPool.commonPool(), PARALLEL_FORK_DEPTH);
+    }
+
+    public static int[][] parallelDivideAndConquerMultiply(int[][] A, int[][] B, ForkJoinPool pool, int forkDepth) {
+        return pool.invoke(new DivideAndConquerTask(A, B, forkDepth));
+    }
+
+    // Parallel Strassen's method: the seven sub-products are forked on a ForkJoinPool
+    public static int[][] parallelStrassenMultiply(int[][] A, int[][] B) {
+        return parallelStrassenMultiply(A, B, ForkJoinPool.commonPool(), PARALLEL_FORK_DEPTH);
+    }
+
+    public static int[][] parallelStrassenMultiply(int[][] A, int[][] B, ForkJoinPool pool, int forkDepth) {
+        return pool.invoke(new StrassenTask(A, B, forkDepth));
+    }
+
+    // Whether a sub-problem of size n at the given remaining depth should be split and forked
+    private static boolean shouldFork(int n, int forkDepth) {
+        return forkDepth > 0 && n > PARALLEL_MIN_FORK_SIZE && n % 2 == 0;
+    }
+
+    // Divide and conquer step whose eight sub-products run as forked tasks;
+    // below the fork depth it continues with the sequential method
+    static class DivideAndConquerTask extends RecursiveTask<int[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] A;
+        private final int[][] B;
+        private final int forkDepth;
+
+        DivideAndConquerTask(int[][] A, int[][] B, int forkDepth) {
+            this.A = A;
+            this.B = B;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected int[][] compute() {
+            int n = A.length;
+            if (!shouldFork(n, forkDepth)) {
+                // The sequential method only splits evenly down to 1x1 for powers of two
+                if ((n & (n - 1)) != 0) {
+                    return blockedMultiply(A, B, (ForkJoinPool) null);
+                }
+                return divideAndConquerMultiply(A, B);
+            }
+
+            int h = n / 2;
+            int[][] A11 = new int[h][h], A12 = new int[h][h], A21 = new int[h][h], A22 = new int[h][h];
+            int[][] B11 = new int[h][h], B12 = new int[h][h], B21 = new int[h][h], B22 = new int[h][h];
+            divideMatrix(A, A11, A12, A21, A22);
+            divideMatrix(B, B11, B12, B21, B22);
+
+            int d = forkDepth - 1;
+            DivideAndConquerTask[] products = {
+                new DivideAndConquerTask(A11, B11, d), new DivideAndConquerTask(A12, B21, d),
+                new DivideAndConquerTask(A11, B12, d), new DivideAndConquerTask(A12, B22, d),
+                new DivideAndConquerTask(A21, B11, d), new DivideAndConquerTask(A22, B21, d),
+                new DivideAndConquerTask(A21, B12, d), new DivideAndConquerTask(A22, B22, d)
+            };
+            invokeAll(products);
+
+            int[][] C = new int[n][n];
+            combineMatrix(C,
+                    addMatrices(products[0].join(), products[1].join()),
+                    addMatrices(products[2].join(), products[3].join()),
+                    addMatrices(products[4].join(), products[5].join()),
+                    addMatrices(products[6].join(), products[7].join()));
+            return C;
+        }
+    }
+
+    // Strassen step whose seven sub-products run as forked tasks; below the
+    // fork depth it continues with the allocation-free sequential variant
+    static class StrassenTask extends RecursiveTask<int[][]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] A;
+        private final int[][] B;
+        private final int forkDepth;
+
+        StrassenTask(int[][] A, int[][] B, int forkDepth) {
+            this.A = A;
+            this.B = B;
+            this.forkDepth = forkDepth;
+        }
+
+        @Override
+        protected int[][] compute() {
+            int n = A.length;
+            if (B.length != n || A[0].length != n || B[0].length != n) {
+                return fastStrassenMultiply(A, B);
+            }
+            if (n % 2 == 1 && shouldFork(n - 1, forkDepth)) {
+                return peelOddEdge();
+            }
+            if (!shouldFork(n, forkDepth)) {
+                return fastStrassenMultiply(A, B);
+            }
+
+            int h = n / 2;
+            int[][] A11 = new int[h][h], A12 = new int[h][h], A21 = new int[h][h], A22 = new int[h][h];
+            int[][] B11 = new int[h][h], B12 = new int[h][h], B21 = new int[h][h], B22 = new int[h][h];
+            divideMatrix(A, A11, A12, A21, A22);
+            divideMatrix(B, B11, B12, B21, B22);
+
+            int d = forkDepth - 1;
+            StrassenTask P1 = new StrassenTask(addMatrices(A11, A22), addMatrices(B11, B22), d);
+            StrassenTask P2 = new StrassenTask(addMatrices(A21, A22), B11, d);
+            StrassenTask P3 = new StrassenTask(A11, subtractMatrices(B12, B22), d);
+            StrassenTask P4 = new StrassenTask(A22, subtractMatrices(B21, B11), d);
+            StrassenTask P5 = new StrassenTask(addMatrices(A11, A12), B22, d);
+            StrassenTask P6 = new StrassenTask(subtractMatrices(A21, A11), addMatrices(B11, B12), d);
+            StrassenTask P7 = new StrassenTask(subtractMatrices(A12, A22), addMatrices(B21, B22), d);
+            invokeAll(P1, P2, P3, P4, P5, P6, P7);
+
+            int[][] C11 = addMatrices(subtractMatrices(addMatrices(P1.join(), P4.join()), P5.join()), P7.join());
+            int[][] C12 = addMatrices(P3.join(), P5.join());
+            int[][] C21 = addMatrices(P2.join(), P4.join());
+            int[][] C22 = addMatrices(subtractMatrices(addMatrices(P1.join(), P3.join()), P2.join()), P6.join());
+
+            int[][] C = new int[n][n];
+            combineMatrix(C, C11, C12, C21, C22);
+            return C;
+        }
+
+        // Odd n: the leading (n - 1) x (n - 1) block is forked as usual, then the last
+        // column of A and last row of B are added in and the last row and column of C
+        // are computed directly, which is O(n^2) work
+        private int[][] peelOddEdge() {
+            int n = A.length;
+            int e = n - 1;
+            int[][] A11 = new int[e][], B11 = new int[e][];
+            for (int i = 0; i < e; i++) {
+                A11[i] = Arrays.copyOf(A[i], e);
+                B11[i] = Arrays.copyOf(B[i], e);
+            }
+            int[][] core = new StrassenTask(A11, B11, forkDepth).compute();
+
+            int[][] C = new int[n][n];
+            for (int i = 0; i < e; i++) {
+                int aie = A[i][e];
+                for (int j = 0; j < e; j++) {
+                    C[i][j] = core[i][j] + aie * B[e][j];
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                int sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += A[i][k] * B[k][e];
+                }
+                C[i][e] = sum;
+            }
+            for (int j = 0; j < e; j++) {
+                int sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += A[e][k] * B[k][j];
+                }
+                C[e][j] = sum;
+            }
+            return C;
+        }
+    }
+
+    // Helper method to copy a matrix into a flat row-major buffer
+    static int[] packMatrix(int[][] M) {
+        int rows = M.length;
+        int cols = M[0].length;
+        int[] m = new int[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(M[i], 0, m, i * cols, cols);
+        }
+        return m;
+    }
+
+    // Helper method to copy a flat row-major buffer back into a matrix
+    static int[][] unpackMatrix(int[] m, int rows, int cols) {
+        int[][] M = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(m, i * cols, M[i], 0, cols);
+        }
+        return M;
+    }
+
+    static long[] packMatrix(long[][] M) {
+        int rows = M.length;
+        int cols = M[0].length;
+        long[] m = new long[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(M[i], 0, m, i * cols, cols);
+        }
+        return m;
+    }
+
+    static double[] packMatrix(double[][] M) {
+        int rows = M.length;
+        int cols = M[0].length;
+        double[] m = new double[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(M[i], 0, m, i * cols, cols);
+        }
+        return m;
+    }
+
+    // Packs a matrix with every element reduced into [0, p)
+    static int[] packMatrixMod(int[][] M, int p) {
+        int rows = M.length;
+        int cols = M[0].length;
+        int[] m = new int[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                m[i * cols + j] = Math.floorMod(M[i][j], p);
+            }
+        }
+        return m;
+    }
+
+    static long[][] unpackMatrix(long[] m, int rows, int cols) {
+        long[][] M = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(m, i * cols, M[i], 0, cols);
+        }
+        return M;
+    }
+
+    static double[][] unpackMatrix(double[] m, int rows, int cols) {
+        double[][] M = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(m, i * cols, M[i], 0, cols);
+        }
+        return M;
+    }
+
+    // Helper method to widen an int matrix to long
+    static long[][] toLongMatrix(int[][] M) {
+        long[][] L = new long[M.length][M[0].length];
+        for (int i = 0; i < M.length; i++) {
+            for (int j = 0; j < M[0].length; j++) {
+                L[i][j] = M[i][j];
+            }
+        }
+        return L;
+    }
+
     // Helper method to divide a matrix into four submatrices
     private static void divideMatrix(int[][] M, int[][] M11, int[][] M12, int[][] M21, int[][] M22) {
         int n = M.length / 2;
@@ -154,6 +934,11 @@ public class MatrixMultiplication {
     }
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            runBenchmark(args);
+            return;
+        }
+
         int[] sizes = {5, 6, 7, 8, 9};
 
         for (int k : sizes) {
@@ -180,16 +965,92 @@ public class MatrixMultiplication {
             endTime = System.nanoTime();
             long strassenTime = endTime - startTime;
             System.out.println("Strassen's method time: " + strassenTime / 1e6 + " ms");
-            if (areMatricesEqual(C1, C2) && areMatricesEqual(C1, C3)) {
+
+            startTime = System.nanoTime();
+            int[][] C4 = MatrixMultiplication.blockedMultiply(A, B);
+            endTime = System.nanoTime();
+            long blockedTime = endTime - startTime;
+            System.out.println("Blocked parallel method time: " + blockedTime / 1e6 + " ms");
+
+            startTime = System.nanoTime();
+            int[][] C5 = MatrixMultiplication.fastStrassenMultiply(A, B);
+            endTime = System.nanoTime();
+            long fastStrassenTime = endTime - startTime;
+            System.out.println("Strassen's method with cutoff time: " + fastStrassenTime / 1e6 + " ms");
+            if (areMatricesEqual(C1, C2) && areMatricesEqual(C1, C3) && areMatricesEqual(C1, C4)
+                    && areMatricesEqual(C1, C5)) {
                 System.out.println("All methods produced the same result.");
             } else {
                 System.out.println("Warning: Results differ between methods!");
             }
 
+            // All int methods wrap the same way, so check against exact accumulation too
+            try {
+                if (areMatricesEqual(C1, MatrixMultiplication.multiplyExact(A, B))) {
+                    System.out.println("Results match overflow-checked accumulation.");
+                } else {
+                    System.out.println("Warning: Results differ from overflow-checked accumulation!");
+                }
+            } catch (ArithmeticException e) {
+                System.out.println("Warning: int results overflowed (" + e.getMessage() + ").");
+            }
+
             System.out.println();
         }
     }
 
+    // Benchmark mode: java MatrixMultiplication bench [size ...]
+    // Reports the speedup of each parallel method over its sequential counterpart
+    private static void runBenchmark(String[] args) {
+        int[] sizes = {256, 512, 1024};
+        if (args.length > 1) {
+            sizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                sizes[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+        int runs = 3;
+        System.out.println("Parallelism: " + ForkJoinPool.commonPool().getParallelism() + ", best of " + runs + " runs");
+
+        for (int n : sizes) {
+            System.out.println("\nMatrix size: " + n + "x" + n);
+            int[][] A = generateRandomMatrix(n);
+            int[][] B = generateRandomMatrix(n);
+
+            // The sequential divide and conquer method recurses down to 1x1 and takes minutes beyond 256
+            if (n <= 256) {
+                reportSpeedup("Divide and Conquer",
+                        bestTimeMillis(runs, () -> divideAndConquerMultiply(A, B)),
+                        bestTimeMillis(runs, () -> parallelDivideAndConquerMultiply(A, B)));
+            } else {
+                System.out.println("Divide and Conquer: skipped (sequential method too slow at this size)");
+            }
+            reportSpeedup("Strassen's",
+                    bestTimeMillis(runs, () -> fastStrassenMultiply(A, B)),
+                    bestTimeMillis(runs, () -> parallelStrassenMultiply(A, B)));
+            reportSpeedup("Blocked",
+                    bestTimeMillis(runs, () -> blockedMultiply(A, B, 1)),
+                    bestTimeMillis(runs, () -> blockedMultiply(A, B, ForkJoinPool.commonPool())));
+        }
+    }
+
+    private static void reportSpeedup(String method, double sequentialTime, double parallelTime) {
+        System.out.printf("%s method: sequential %.2f ms, parallel %.2f ms, speedup %.2fx%n",
+                method, sequentialTime, parallelTime, sequentialTime / parallelTime);
+    }
+
+    // Runs the method once to warm up the JIT, then returns the fastest of the timed runs
+    private static double bestTimeMillis(int runs, Supplier<int[][]> method) {
+        method.get();
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < runs; r++) {
+            long startTime = System.nanoTime();
+            method.get();
+            best = Math.min(best, System.nanoTime() - startTime);
+        }
+        return best / 1e6;
+    }
+
     private static int[][] generateRandomMatrix(int n) {
         Random rand = new Random();
         int[][] matrix = new int[n][n];
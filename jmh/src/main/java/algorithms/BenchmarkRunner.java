@@ -0,0 +1,37 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+/**
+ * Entry point of benchmarks.jar. Hands the command line to JMH's own Main, so
+ * -h, -l, -lp and the other options behave as usual, and unless -rf/-rff are
+ * given adds the options that write the results as JSON to jmh-result.json,
+ * so that runs from different releases can be diffed to catch regressions.
+ *
+ * Example: java -jar target/benchmarks.jar LCSBenchmark -rff jmh-result-1.1.json
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        List<String> argv = new ArrayList<>();
+        try {
+            CommandLineOptions cmd = new CommandLineOptions(args);
+            if (!cmd.getResultFormat().hasValue()) {
+                argv.addAll(Arrays.asList("-rf", "json"));
+            }
+            if (!cmd.getResult().hasValue()) {
+                argv.addAll(Arrays.asList("-rff", "jmh-result.json"));
+            }
+        } catch (CommandLineOptionException e) {
+            // Leave the arguments alone and let Main report the error
+        }
+        argv.addAll(Arrays.asList(args));
+        Main.main(argv.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,81 @@
+package algorithms;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * Shared helpers for the benchmarks.
+ *
+ * Several algorithms print their results or keep their state in private static
+ * fields, so the benchmarks silence System.out and reach private members
+ * through reflection, resolved once per trial.
+ */
+final class BenchmarkSupport {
+
+    private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Replaces System.out with a stream that discards everything.
+     *
+     * @return The previous System.out, to be passed to restoreStdout
+     */
+    static PrintStream silenceStdout() {
+        PrintStream previous = System.out;
+        System.setOut(NULL_OUT);
+        return previous;
+    }
+
+    static void restoreStdout(PrintStream previous) {
+        System.setOut(previous);
+    }
+
+    /**
+     * Looks up a static method regardless of its visibility.
+     */
+    static MethodHandle staticMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = owner.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    /**
+     * Assigns a static field regardless of its visibility.
+     */
+    static void setStatic(Class<?> owner, String name, Object value) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    static int[] randomInts(Random random, int length, int bound) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = 1 + random.nextInt(bound);
+        }
+        return values;
+    }
+
+    static String randomString(Random random, int length, String alphabet) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,62 @@
+package algorithms;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinomialCoefficientBenchmark {
+
+    // The DP methods compute C(n, n / 2); values overflow long past n = 66,
+    // which does not change the amount of work
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"60", "1000", "10000"})
+        int n;
+    }
+
+    // The plain recursive method makes C(n, k) calls
+    @State(Scope.Benchmark)
+    public static class SmallInput {
+        @Param({"16", "24"})
+        int n;
+    }
+
+    @Benchmark
+    public long normal(SmallInput in) {
+        return BinomialCoefficient.binomialCoefficientNormal(in.n, in.n / 2);
+    }
+
+    @Benchmark
+    public long recursive(SmallInput in) {
+        return BinomialCoefficient.binomialCoefficientRecursive(in.n, in.n / 2);
+    }
+
+    @Benchmark
+    public long dp2D(Input in) {
+        return BinomialCoefficient.binomialCoefficientDP2D(in.n, in.n / 2);
+    }
+
+    @Benchmark
+    public long dpOptimized2D(Input in) {
+        return BinomialCoefficient.binomialCoefficientDPOptimized2D(in.n, in.n / 2);
+    }
+
+    @Benchmark
+    public long dp1D(Input in) {
+        return BinomialCoefficient.binomialCoefficientDP1D(in.n, in.n / 2);
+    }
+}
@@ -0,0 +1,75 @@
+package algorithms;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphIsomorphismFinderBenchmark {
+
+    // GraphIsomorphismFinder keeps both graphs in private static fields
+    private static final MethodHandle FIND = BenchmarkSupport.staticMethod(GraphIsomorphismFinder.class,
+            "findIsomorphicSubgraphs", int.class, int.class, boolean.class);
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"4", "6"})
+        int m;
+
+        @Param({"20", "40"})
+        int n;
+
+        @Param({"0.2"})
+        double edgeProbability;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            BenchmarkSupport.setStatic(GraphIsomorphismFinder.class, "pMatrix", randomGraph(random, m, 0.5));
+            BenchmarkSupport.setStatic(GraphIsomorphismFinder.class, "dMatrix", randomGraph(random, n, edgeProbability));
+            BenchmarkSupport.setStatic(GraphIsomorphismFinder.class, "hasLabels", false);
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<int[]> induced(Input in) throws Throwable {
+        return (List<int[]>) FIND.invokeExact(in.m, in.n, true);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<int[]> nonInduced(Input in) throws Throwable {
+        return (List<int[]>) FIND.invokeExact(in.m, in.n, false);
+    }
+
+    private static int[][] randomGraph(Random random, int size, double edgeProbability) {
+        int[][] matrix = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (random.nextDouble() < edgeProbability) {
+                    matrix[i][j] = 1;
+                    matrix[j][i] = 1;
+                }
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class HuffmanCodecBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"1048576", "8388608"})
+        int size;
+
+        byte[] data;
+        byte[] encoded;
+        byte[] adaptiveEncoded;
+
+        @Setup
+        public void setUp() {
+            // Skewed, log-like byte distribution: mostly lowercase text with rarer punctuation
+            Random random = new Random(42);
+            data = new byte[size];
+            for (int i = 0; i < size; i++) {
+                int r = random.nextInt(100);
+                data[i] = (byte) (r < 80 ? 'a' + random.nextInt(26) : r < 95 ? ' ' + random.nextInt(32) : random.nextInt(256));
+            }
+            encoded = HuffmanCodec.encode(data);
+            adaptiveEncoded = AdaptiveHuffmanCoding.encode(data);
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(Input in) {
+        return HuffmanCodec.encode(in.data);
+    }
+
+    @Benchmark
+    public byte[] decode(Input in) throws IOException {
+        return HuffmanCodec.decode(in.encoded);
+    }
+
+    @Benchmark
+    public byte[] adaptiveEncode(Input in) {
+        return AdaptiveHuffmanCoding.encode(in.data);
+    }
+
+    @Benchmark
+    public byte[] adaptiveDecode(Input in) throws IOException {
+        return AdaptiveHuffmanCoding.decode(in.adaptiveEncoded);
+    }
+}
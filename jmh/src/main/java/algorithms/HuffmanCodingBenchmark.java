@@ -0,0 +1,71 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HuffmanCodingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"26", "256", "4096"})
+        int alphabetSize;
+
+        char[] symbols;
+        int[] frequencies;
+        int[] sortedFrequencies;
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            symbols = new char[alphabetSize];
+            for (int i = 0; i < alphabetSize; i++) {
+                symbols[i] = (char) ('!' + i);
+            }
+            frequencies = BenchmarkSupport.randomInts(new Random(42), alphabetSize, 100_000);
+            sortedFrequencies = frequencies.clone();
+            Arrays.sort(sortedFrequencies);
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    @Benchmark
+    public Map<Character, String> huffmanCoding(Input in) throws Exception {
+        return HuffmanCoding.huffmanCoding(in.symbols, in.frequencies);
+    }
+
+    @Benchmark
+    public Map<Character, String> huffmanCodingTraced(Input in) throws Exception {
+        return HuffmanCoding.huffmanCoding(in.symbols, in.frequencies, HuffmanCoding.CONSOLE);
+    }
+
+    @Benchmark
+    public Map<Character, String> huffmanCodingSorted(Input in) {
+        return HuffmanCoding.huffmanCodingSorted(in.symbols, in.sortedFrequencies);
+    }
+}
@@ -0,0 +1,79 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KnapsackBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"100", "500"})
+        int n;
+
+        @Param({"10000", "100000"})
+        int W;
+
+        int[] w;
+        int[] p;
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            // Weights around W / 10 so that roughly ten items fit at a time
+            w = BenchmarkSupport.randomInts(random, n, Math.max(1, W / 5));
+            p = BenchmarkSupport.randomInts(random, n, 1000);
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    @Benchmark
+    public void standardDP(Input in) {
+        KnapsackStandardDP.knapSack(in.w, in.p, in.n, in.W);
+    }
+
+    @Benchmark
+    public void refinedDP(Input in) {
+        KnapsackRefinedDP.knapSack(in.w, in.p, in.n, in.W);
+    }
+
+    @Benchmark
+    public void standardDPParallel(Input in) {
+        KnapsackStandardDP.knapSackParallel(in.w, in.p, in.n, in.W, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public void refinedDPParallel(Input in) {
+        KnapsackRefinedDP.knapSackParallel(in.w, in.p, in.n, in.W, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public KnapsackResult refinedDPLinearSpace(Input in) {
+        return KnapsackRefinedDP.knapSackLinearSpace(in.w, in.p, in.n, in.W);
+    }
+}
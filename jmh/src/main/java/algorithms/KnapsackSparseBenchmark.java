@@ -0,0 +1,64 @@
+package algorithms;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class KnapsackSparseBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"100", "500"})
+        int n;
+
+        // Byte-budget sized capacities, far beyond what the capacity DPs can allocate
+        @Param({"1000000000", "100000000000"})
+        long W;
+
+        int[] w;
+        int[] p;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            w = BenchmarkSupport.randomInts(random, n, (int) Math.min(Integer.MAX_VALUE, W / 5));
+            p = BenchmarkSupport.randomInts(random, n, 1000);
+        }
+    }
+
+    @Benchmark
+    public KnapsackResult byProfit(Input in) {
+        return KnapsackSparseDP.knapSackByProfit(in.w, in.p, in.n, in.W);
+    }
+
+    @Benchmark
+    public KnapsackResult pareto(Input in) {
+        return KnapsackSparseDP.knapSackPareto(in.w, in.p, in.n, in.W);
+    }
+
+    @Benchmark
+    public KnapsackResult chosen(Input in) {
+        return KnapsackSparseDP.knapSack(in.w, in.p, in.n, in.W);
+    }
+
+    @Benchmark
+    public KnapsackResult branchAndBound(Input in) {
+        return KnapsackBranchAndBound.knapSack(in.w, in.p, in.n, in.W);
+    }
+}
@@ -0,0 +1,102 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xss16m"})
+public class LCSBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"1000", "5000", "10000"})
+        int length;
+
+        @Param({"ACGT", "abcdefghijklmnopqrstuvwxyz"})
+        String alphabet;
+
+        String X;
+        String Y;
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            X = BenchmarkSupport.randomString(new Random(42), length, alphabet);
+            Y = BenchmarkSupport.randomString(new Random(43), length, alphabet);
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    // The plain divide and conquer method is exponential in the input length
+    @State(Scope.Benchmark)
+    public static class SmallInput {
+        @Param({"10", "14"})
+        int length;
+
+        String X;
+        String Y;
+
+        @Setup
+        public void setUp() {
+            X = BenchmarkSupport.randomString(new Random(42), length, "ACGT");
+            Y = BenchmarkSupport.randomString(new Random(43), length, "ACGT");
+        }
+    }
+
+    @Benchmark
+    public void dynamicProgramming(Input in) {
+        LCS.lcsDynamicProgramming(in.X, in.Y);
+    }
+
+    @Benchmark
+    public void dynamicProgrammingOptimized(Input in) {
+        LCS.lcsDynamicProgrammingOptimized(in.X, in.Y);
+    }
+
+    @Benchmark
+    public String hirschberg(Input in) {
+        return LCS.lcsHirschberg(in.X, in.Y);
+    }
+
+    @Benchmark
+    public int bitParallel(Input in) {
+        return LCS.lcsBitParallel(in.X, in.Y);
+    }
+
+    @Benchmark
+    public int wavefront(Input in) {
+        return LCS.lcsWavefront(in.X, in.Y);
+    }
+
+    @Benchmark
+    public int memoized(Input in) {
+        return LCS.lcsMemoized(in.X, in.Y);
+    }
+
+    @Benchmark
+    public int divideAndConquer(SmallInput in) {
+        return LCS.lcsDivideAndConquer(in.X, in.Y, in.X.length(), in.Y.length());
+    }
+}
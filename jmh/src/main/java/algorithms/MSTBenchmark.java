@@ -0,0 +1,99 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MSTBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"1000", "5000"})
+        int V;
+
+        @Param({"4", "32"})
+        int averageDegree;
+
+        MST.Edge[] edges;
+        int[][] W;
+        MST.CsrGraph csr;
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            Random random = new Random(42);
+            int E = V * averageDegree / 2;
+            edges = new MST.Edge[E];
+            for (int i = 0; i < E; i++) {
+                MST.Edge edge = new MST.Edge();
+                if (i < V - 1) {
+                    // A random spanning path keeps the graph connected
+                    edge.src = i;
+                    edge.dest = i + 1;
+                } else {
+                    edge.src = random.nextInt(V);
+                    edge.dest = random.nextInt(V);
+                }
+                edge.weight = 1 + random.nextInt(1000);
+                edges[i] = edge;
+            }
+
+            W = new int[V][V];
+            for (int i = 0; i < V; i++) {
+                Arrays.fill(W[i], Integer.MAX_VALUE);
+            }
+            for (MST.Edge edge : edges) {
+                W[edge.src][edge.dest] = edge.weight;
+                W[edge.dest][edge.src] = edge.weight;
+            }
+            MST.Graph graph = new MST.Graph(V, 0);
+            graph.E = edges.length;
+            graph.edges = edges;
+            csr = MST.CsrGraph.fromGraph(graph);
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    @Benchmark
+    public void kruskal(Input in) {
+        // KruskalMST sorts the edge array in place, so each call gets the original order
+        MST.Graph graph = new MST.Graph(in.V, 0);
+        graph.E = in.edges.length;
+        graph.edges = in.edges.clone();
+        MST.KruskalMST(graph);
+    }
+
+    @Benchmark
+    public void primDense(Input in) {
+        MST.PrimMST(in.W, in.V);
+    }
+
+    @Benchmark
+    public void primSparse(Input in) {
+        MST.PrimMSTSparse(in.csr);
+    }
+}
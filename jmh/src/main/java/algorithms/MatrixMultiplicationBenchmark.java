@@ -0,0 +1,105 @@
+package algorithms;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MatrixMultiplicationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"256", "1024", "2048"})
+        int size;
+
+        int[][] A;
+        int[][] B;
+
+        @Setup
+        public void setUp() {
+            A = randomMatrix(new Random(42), size);
+            B = randomMatrix(new Random(43), size);
+        }
+    }
+
+    // The textbook recursive methods recurse down to 1x1 and are only measured on small inputs
+    @State(Scope.Benchmark)
+    public static class SmallInput {
+        @Param({"64", "128"})
+        int size;
+
+        int[][] A;
+        int[][] B;
+
+        @Setup
+        public void setUp() {
+            A = randomMatrix(new Random(42), size);
+            B = randomMatrix(new Random(43), size);
+        }
+    }
+
+    @Benchmark
+    public int[][] direct(Input in) {
+        return MatrixMultiplication.directMultiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] blocked(Input in) {
+        return MatrixMultiplication.blockedMultiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] fastStrassen(Input in) {
+        return MatrixMultiplication.fastStrassenMultiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] parallelStrassen(Input in) {
+        return MatrixMultiplication.parallelStrassenMultiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] multiply(Input in) {
+        return MatrixMultiplication.multiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] multiplyMod(Input in) {
+        return MatrixMultiplication.multiplyMod(in.A, in.B, 998244353);
+    }
+
+    @Benchmark
+    public int[][] divideAndConquer(SmallInput in) {
+        return MatrixMultiplication.divideAndConquerMultiply(in.A, in.B);
+    }
+
+    @Benchmark
+    public int[][] strassen(SmallInput in) {
+        return MatrixMultiplication.strassenMultiply(in.A, in.B);
+    }
+
+    private static int[][] randomMatrix(Random random, int n) {
+        int[][] matrix = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                matrix[i][j] = random.nextInt(100);
+            }
+        }
+        return matrix;
+    }
+}
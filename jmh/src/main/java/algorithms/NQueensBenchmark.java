@@ -0,0 +1,55 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NQueensBenchmark {
+
+    // NQueens keeps the board in private static fields and fixes n in main
+    private static final MethodHandle QUEENS = BenchmarkSupport.staticMethod(NQueens.class, "queens", int.class);
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"8", "10", "12"})
+        int n;
+
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            BenchmarkSupport.setStatic(NQueens.class, "n", n);
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    @Benchmark
+    public void queens(Input in) throws Throwable {
+        BenchmarkSupport.setStatic(NQueens.class, "col", new int[in.n + 1]);
+        BenchmarkSupport.setStatic(NQueens.class, "totalSolutions", 0);
+        QUEENS.invokeExact(0);
+    }
+}
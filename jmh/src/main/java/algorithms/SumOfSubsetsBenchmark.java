@@ -0,0 +1,68 @@
+package algorithms;
+
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SumOfSubsetsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"16", "24"})
+        int n;
+
+        int[] w;
+        int totalWeight;
+        PrintStream stdout;
+
+        @Setup
+        public void setUp() {
+            // SumOfSubsets expects 1-based weights in non-decreasing order
+            int[] values = BenchmarkSupport.randomInts(new Random(42), n, 100);
+            java.util.Arrays.sort(values);
+            w = new int[n + 1];
+            totalWeight = 0;
+            for (int i = 1; i <= n; i++) {
+                w[i] = values[i - 1];
+                totalWeight += w[i];
+            }
+
+            SumOfSubsets.n = n;
+            SumOfSubsets.w = w;
+            SumOfSubsets.include = new boolean[n + 1];
+            SumOfSubsets.W = totalWeight / 2;
+            SumOfSubsets.totalWeight = totalWeight;
+            stdout = BenchmarkSupport.silenceStdout();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkSupport.restoreStdout(stdout);
+        }
+    }
+
+    @Benchmark
+    public int sumOfSubsets(Input in) {
+        SumOfSubsets.nodesVisited = 0;
+        SumOfSubsets.sumOfSubsets(0, 0, in.totalWeight);
+        return SumOfSubsets.nodesVisited;
+    }
+}